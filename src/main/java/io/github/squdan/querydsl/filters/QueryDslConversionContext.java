@@ -0,0 +1,87 @@
+package io.github.squdan.querydsl.filters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Values of {@link QueryDslFilter} converted while compiling a single request.
+ * <p>
+ * Filters are immutable and may be shared between threads (Example: cached mapped filters), so converted values are
+ * not kept by them. Filters attached to a context keep their converted values at the context instead, so each filter
+ * value is converted only once for each converter during the compilation, and the converted values used by type
+ * managers can be recovered once predicates are generated.
+ * <p>
+ * Contexts are not safe to be used concurrently, each compilation must use its own context.
+ */
+public final class QueryDslConversionContext {
+
+    // Converted values by filter value and converter, in conversion order
+    private final Map<ConversionKey, QueryDslTypedValue<?>> typedValues = new LinkedHashMap<>();
+
+    /**
+     * Returns copies of received filters attached to this context.
+     *
+     * @param filters: filters to attach.
+     * @return List of QueryDslFilter, with the same order as received filters.
+     */
+    public List<QueryDslFilter> attach(final List<QueryDslFilter> filters) {
+        final List<QueryDslFilter> result = new ArrayList<>(filters.size());
+
+        for (QueryDslFilter filter : filters) {
+            result.add(filter.withConversionContext(this));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns values of received filter converted at this context, by this filter or any copy of it.
+     *
+     * @param filter: filter whose values were converted.
+     * @return List of QueryDslTypedValue, one per converter used, in conversion order.
+     */
+    public List<QueryDslTypedValue<?>> getTypedValues(final QueryDslFilter filter) {
+        final List<QueryDslTypedValue<?>> result = new ArrayList<>();
+        final boolean multipleValues = filter.getOperator().hasMultipleValues();
+
+        for (Map.Entry<ConversionKey, QueryDslTypedValue<?>> entry : typedValues.entrySet()) {
+            if (entry.getKey().multipleValues() == multipleValues && Objects.equals(entry.getKey().value(), filter.getValue())) {
+                result.add(entry.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    <V> QueryDslTypedValue<V> getTypedValue(final QueryDslFilter filter, final QueryDslValueConverter<V> converter,
+                                            final Supplier<QueryDslTypedValue<V>> conversion) {
+        final ConversionKey key = new ConversionKey(filter.getValue(), filter.getOperator().hasMultipleValues(), converter);
+        QueryDslTypedValue<V> result = (QueryDslTypedValue<V>) typedValues.get(key);
+
+        // Values that can't be converted aren't kept, they are reported by each request
+        if (Objects.isNull(result)) {
+            result = conversion.get();
+
+            if (Objects.nonNull(result)) {
+                typedValues.put(key, result);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Conversion of a filter value, values of operators with multiple values (in, notIn) are converted one by one.
+     *
+     * @param value:          filter value.
+     * @param multipleValues: true if filter operator has multiple values.
+     * @param converter:      converter used.
+     */
+    private record ConversionKey(Object value, boolean multipleValues, QueryDslValueConverter<?> converter) {
+    }
+}
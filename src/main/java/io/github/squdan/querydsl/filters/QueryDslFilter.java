@@ -1,28 +1,34 @@
 package io.github.squdan.querydsl.filters;
 
 import io.github.squdan.querydsl.filters.repository.QueryDslRepository;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Class with filter information to apply in the searching over {@link QueryDslRepository}
  */
 @Slf4j
 @Value
-@Builder
-@AllArgsConstructor
 public class QueryDslFilter {
 
     // Formats supported
     private static final String NORMAL_OPERATOR = "%s%s%s";
     private static final String FUNCTION_OPERATOR = "%s(%s : %s)";
     private static final String FUNCTION_OPERATOR_SINGLE_ARGUMENT = "%s(%s)";
+    private static final String VALUES_SEPARATOR = "|";
 
     /**
      * Entity field name
@@ -39,6 +45,25 @@ public class QueryDslFilter {
      */
     Object value;
 
+    /**
+     * Context keeping converted values while compiling a request, null if values are converted each time.
+     */
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    QueryDslConversionContext conversionContext;
+
+    /**
+     * Constructor from all filter information.
+     *
+     * @param key:      entity field name.
+     * @param operator: operator to apply.
+     * @param value:    value to use in the filter.
+     */
+    @Builder
+    public QueryDslFilter(final String key, final QueryDslOperators operator, final Object value) {
+        this(key, operator, value, null);
+    }
+
     /**
      * Constructor for functions with single parameter key.
      *
@@ -46,9 +71,15 @@ public class QueryDslFilter {
      * @param operator: operator to apply (isNull, nonNull).
      */
     public QueryDslFilter(final String key, final QueryDslOperators operator) {
+        this(key, operator, null);
+    }
+
+    private QueryDslFilter(final String key, final QueryDslOperators operator, final Object value,
+                           final QueryDslConversionContext conversionContext) {
         this.key = key;
         this.operator = operator;
-        this.value = null;
+        this.value = value;
+        this.conversionContext = conversionContext;
     }
 
     /**
@@ -93,6 +124,89 @@ public class QueryDslFilter {
         return result;
     }
 
+    /**
+     * Returns filter value converted with received converter.
+     * <p>
+     * Filters attached to a {@link QueryDslConversionContext} convert their value only the first time, next requests
+     * with the same converter return the same instance. Operators with multiple values (in, notIn) convert each one of
+     * them.
+     *
+     * @param converter: converter to the type of the entity field.
+     * @param <V>:       converted value type.
+     * @return QueryDslTypedValue with converted value.
+     */
+    public <V> QueryDslTypedValue<V> getTypedValue(final QueryDslValueConverter<V> converter) {
+        final QueryDslTypedValue<V> result = tryGetTypedValue(converter).orElse(null);
+
+        if (Objects.isNull(result)) {
+            final String errorMsg = String.format(
+                    "Operation '%s' error, value '%s' couldn't be parsed.",
+                    this.operator,
+                    getNonConvertibleValue(converter)
+            );
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns filter value converted with received converter, without generating exceptions or messages if it can't
+     * be converted, so values from untrusted sources can be validated cheaply.
+     * <p>
+     * Works as {@link #getTypedValue(QueryDslValueConverter)}, values that can't be converted aren't kept at the
+     * conversion context.
+     *
+     * @param converter: converter to the type of the entity field.
+     * @param <V>:       converted value type.
+     * @return Optional with converted value, empty if any value can't be converted.
+     */
+    public <V> Optional<QueryDslTypedValue<V>> tryGetTypedValue(final QueryDslValueConverter<V> converter) {
+        return Optional.ofNullable(Objects.isNull(this.conversionContext)
+                ? tryConvert(converter)
+                : this.conversionContext.getTypedValue(this, converter, () -> tryConvert(converter)));
+    }
+
+    /**
+     * Returns a copy of this filter for a different entity field, keeping its conversion context.
+     *
+     * @param newKey: entity field name.
+     * @return QueryDslFilter.
+     */
+    public QueryDslFilter withKey(final String newKey) {
+        return new QueryDslFilter(newKey, this.operator, this.value, this.conversionContext);
+    }
+
+    QueryDslFilter withConversionContext(final QueryDslConversionContext newConversionContext) {
+        return new QueryDslFilter(this.key, this.operator, this.value, newConversionContext);
+    }
+
+    /**
+     * Returns filter values for operators receiving multiple values (in, notIn).
+     * <p>
+     * - Collection: each element is a value.
+     * - String: values separated by '|' (Example: admin|user).
+     * - Other: single value.
+     *
+     * @return List of values, empty if filter has no value.
+     */
+    public List<Object> getValues() {
+        List<Object> result;
+
+        if (Objects.isNull(this.value)) {
+            result = List.of();
+        } else if (this.value instanceof Collection<?> collection) {
+            result = new ArrayList<>(collection);
+        } else if (this.value instanceof String string) {
+            result = List.of((Object[]) StringUtils.split(string, VALUES_SEPARATOR));
+        } else {
+            result = List.of(this.value);
+        }
+
+        return result;
+    }
+
     @Override
     public String toString() {
         String result;
@@ -100,7 +214,7 @@ public class QueryDslFilter {
         if (Objects.nonNull(this.operator)) {
             if (this.operator.isFunction()) {
                 if (Objects.nonNull(this.key) && Objects.nonNull(this.value)) {
-                    result = String.format(FUNCTION_OPERATOR, this.operator.getOperator(), this.key, this.value);
+                    result = String.format(FUNCTION_OPERATOR, this.operator.getOperator(), this.key, getValueAsString());
                 } else if (Objects.nonNull(this.key) && Objects.isNull(this.value)) {
                     result = String.format(FUNCTION_OPERATOR_SINGLE_ARGUMENT, this.operator.getOperator(), this.key);
                 } else {
@@ -111,7 +225,7 @@ public class QueryDslFilter {
                     throw new QueryDslFiltersException(errorMsg);
                 }
             } else {
-                result = String.format(NORMAL_OPERATOR, this.key, this.operator.getOperator(), this.value);
+                result = String.format(NORMAL_OPERATOR, this.key, this.operator.getOperator(), getValueAsString());
             }
         } else {
             final String errorMsg = "QueryDslFilter couldn't be parsed to String, filter needs an operator.";
@@ -122,4 +236,62 @@ public class QueryDslFilter {
         return result;
     }
 
+    private <V> QueryDslTypedValue<V> tryConvert(final QueryDslValueConverter<V> converter) {
+        QueryDslTypedValue<V> result = null;
+
+        if (this.operator.hasMultipleValues()) {
+            final List<Object> rawValues = getValues();
+            final List<V> convertedValues = new ArrayList<>(rawValues.size());
+
+            // Conversion stops at the first value that can't be converted
+            for (int i = 0; i < rawValues.size() && convertedValues.size() == i; i++) {
+                final V convertedValue = tryConvert(converter, rawValues.get(i));
+
+                if (Objects.nonNull(convertedValue)) {
+                    convertedValues.add(convertedValue);
+                }
+            }
+
+            result = convertedValues.size() == rawValues.size() ? new QueryDslTypedValue<>(converter, null, List.copyOf(convertedValues)) : null;
+        } else {
+            final V convertedValue = tryConvert(converter, this.value);
+
+            if (Objects.isNull(this.value) || Objects.nonNull(convertedValue)) {
+                result = new QueryDslTypedValue<>(converter, convertedValue, Objects.isNull(convertedValue) ? List.of() : List.of(convertedValue));
+            }
+        }
+
+        return result;
+    }
+
+    private <V> V tryConvert(final QueryDslValueConverter<V> converter, final Object rawValue) {
+        V result = null;
+
+        if (Objects.nonNull(rawValue)) {
+            try {
+                result = converter.getType().isInstance(rawValue) ? converter.getType().cast(rawValue) : converter.convert(rawValue);
+            } catch (final IllegalArgumentException e) {
+                // Value can't be converted
+            }
+        }
+
+        return result;
+    }
+
+    private Object getNonConvertibleValue(final QueryDslValueConverter<?> converter) {
+        final List<Object> rawValues = this.operator.hasMultipleValues() ? getValues() : Collections.singletonList(this.value);
+        Object result = null;
+
+        for (int i = 0; Objects.isNull(result) && i < rawValues.size(); i++) {
+            result = Objects.nonNull(rawValues.get(i)) && Objects.isNull(tryConvert(converter, rawValues.get(i))) ? rawValues.get(i) : null;
+        }
+
+        return result;
+    }
+
+    private String getValueAsString() {
+        return this.value instanceof Collection<?> collection
+                ? collection.stream().map(String::valueOf).collect(Collectors.joining(VALUES_SEPARATOR))
+                : String.valueOf(this.value);
+    }
 }
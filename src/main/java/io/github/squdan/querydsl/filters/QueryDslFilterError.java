@@ -0,0 +1,32 @@
+package io.github.squdan.querydsl.filters;
+
+/**
+ * Compact description of a filter that couldn't be mapped at {@link QueryDslFiltersMapper}.
+ * <p>
+ * Error message is only generated when requested, so rejecting wrong filters is cheap.
+ *
+ * @param index:  position of the filter in the received list.
+ * @param filter: received filter in String format.
+ * @param reason: reason why the filter couldn't be mapped.
+ */
+public record QueryDslFilterError(int index, String filter, Reason reason) {
+
+    /**
+     * Reasons why a filter couldn't be mapped.
+     */
+    public enum Reason {
+        // Filter is null or only contains whitespaces
+        BLANK,
+        // Filter doesn't follow any supported format
+        WRONG_FORMAT
+    }
+
+    /**
+     * Generates error message.
+     *
+     * @return error message.
+     */
+    public String getMessage() {
+        return String.format("Filter '%s' at position '%s' has wrong format (%s).", filter, index, reason);
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.squdan.querydsl.filters;
+
+import io.github.squdan.querydsl.filters.repository.QueryDslRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boolean expression of {@link QueryDslFilter} that may be applied in the searching over {@link QueryDslRepository}.
+ * <p>
+ * Expressions combine filters with "and", "or" and "not" operators:
+ * <p>
+ * - Example: role=ADMIN or savings>1000
+ * - Example: not (isNull(lastName) and contains(username, test))
+ * <p>
+ * Use {@link QueryDslFiltersMapper} to map from String to QueryDslFilterExpression.
+ */
+public sealed interface QueryDslFilterExpression {
+
+    // Constants
+    QueryDslFilterExpression TRUE = new Constant(true);
+    QueryDslFilterExpression FALSE = new Constant(false);
+
+    /**
+     * Generates an expression from a single filter.
+     *
+     * @param filter: filter to apply.
+     * @return QueryDslFilterExpression.
+     */
+    static QueryDslFilterExpression of(final QueryDslFilter filter) {
+        return new Filter(filter);
+    }
+
+    /**
+     * Generates an expression matching when all received expressions match.
+     *
+     * @param operands: expressions to combine.
+     * @return QueryDslFilterExpression.
+     */
+    static QueryDslFilterExpression and(final List<QueryDslFilterExpression> operands) {
+        return new And(List.copyOf(operands));
+    }
+
+    /**
+     * Generates an expression matching when any received expression matches.
+     *
+     * @param operands: expressions to combine.
+     * @return QueryDslFilterExpression.
+     */
+    static QueryDslFilterExpression or(final List<QueryDslFilterExpression> operands) {
+        return new Or(List.copyOf(operands));
+    }
+
+    /**
+     * Generates an expression matching when received expression doesn't match.
+     *
+     * @param operand: expression to negate.
+     * @return QueryDslFilterExpression.
+     */
+    static QueryDslFilterExpression not(final QueryDslFilterExpression operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Simplifies the expression removing constant branches and nested operations of the same type.
+     * <p>
+     * - Example: (role=ADMIN and true) or false -> role=ADMIN
+     * - Example: role=ADMIN and (savings>1000 and not false) -> role=ADMIN and savings>1000
+     *
+     * @return equivalent simplified expression, {@link #TRUE} or {@link #FALSE} if result doesn't depend on filters.
+     */
+    QueryDslFilterExpression fold();
+
+    /**
+     * Single filter expression.
+     *
+     * @param filter: filter to apply.
+     */
+    record Filter(QueryDslFilter filter) implements QueryDslFilterExpression {
+
+        @Override
+        public QueryDslFilterExpression fold() {
+            return this;
+        }
+    }
+
+    /**
+     * Constant expression, matching always (true) or never (false).
+     *
+     * @param value: constant value.
+     */
+    record Constant(boolean value) implements QueryDslFilterExpression {
+
+        @Override
+        public QueryDslFilterExpression fold() {
+            return this;
+        }
+    }
+
+    /**
+     * Negation of an expression.
+     *
+     * @param operand: expression to negate.
+     */
+    record Not(QueryDslFilterExpression operand) implements QueryDslFilterExpression {
+
+        @Override
+        public QueryDslFilterExpression fold() {
+            final QueryDslFilterExpression foldedOperand = operand.fold();
+            QueryDslFilterExpression result;
+
+            if (foldedOperand instanceof Constant constant) {
+                result = constant.value() ? FALSE : TRUE;
+            } else if (foldedOperand instanceof Not not) {
+                result = not.operand();
+            } else {
+                result = new Not(foldedOperand);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Conjunction of expressions.
+     *
+     * @param operands: expressions that must match.
+     */
+    record And(List<QueryDslFilterExpression> operands) implements QueryDslFilterExpression {
+
+        @Override
+        public QueryDslFilterExpression fold() {
+            final List<QueryDslFilterExpression> foldedOperands = new ArrayList<>();
+            boolean alwaysFalse = false;
+
+            for (int i = 0; !alwaysFalse && i < operands.size(); i++) {
+                final QueryDslFilterExpression foldedOperand = operands.get(i).fold();
+
+                if (foldedOperand instanceof Constant constant) {
+                    // true doesn't change the result, false makes the whole conjunction false
+                    alwaysFalse = !constant.value();
+                } else if (foldedOperand instanceof And and) {
+                    foldedOperands.addAll(and.operands());
+                } else {
+                    foldedOperands.add(foldedOperand);
+                }
+            }
+
+            QueryDslFilterExpression result;
+
+            if (alwaysFalse) {
+                result = FALSE;
+            } else if (foldedOperands.isEmpty()) {
+                result = TRUE;
+            } else if (foldedOperands.size() == 1) {
+                result = foldedOperands.get(0);
+            } else {
+                result = new And(List.copyOf(foldedOperands));
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Disjunction of expressions.
+     *
+     * @param operands: expressions where at least one must match.
+     */
+    record Or(List<QueryDslFilterExpression> operands) implements QueryDslFilterExpression {
+
+        @Override
+        public QueryDslFilterExpression fold() {
+            final List<QueryDslFilterExpression> foldedOperands = new ArrayList<>();
+            boolean alwaysTrue = false;
+
+            for (int i = 0; !alwaysTrue && i < operands.size(); i++) {
+                final QueryDslFilterExpression foldedOperand = operands.get(i).fold();
+
+                if (foldedOperand instanceof Constant constant) {
+                    // false doesn't change the result, true makes the whole disjunction true
+                    alwaysTrue = constant.value();
+                } else if (foldedOperand instanceof Or or) {
+                    foldedOperands.addAll(or.operands());
+                } else {
+                    foldedOperands.add(foldedOperand);
+                }
+            }
+
+            QueryDslFilterExpression result;
+
+            if (alwaysTrue) {
+                result = TRUE;
+            } else if (foldedOperands.isEmpty()) {
+                result = FALSE;
+            } else if (foldedOperands.size() == 1) {
+                result = foldedOperands.get(0);
+            } else {
+                result = new Or(List.copyOf(foldedOperands));
+            }
+
+            return result;
+        }
+    }
+}
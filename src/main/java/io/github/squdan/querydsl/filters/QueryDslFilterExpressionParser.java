@@ -0,0 +1,213 @@
+package io.github.squdan.querydsl.filters;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Recursive descent parser to map from String to {@link QueryDslFilterExpression}.
+ * <p>
+ * Grammar, keywords are case-insensitive and "not" has more precedence than "and", "and" more than "or":
+ * <p>
+ * - or: and ("or" and)*
+ * - and: not ("and" not)*
+ * - not: "not" not | primary
+ * - primary: "(" or ")" | "true" | "false" | filter
+ * <p>
+ * Filters use QueryDslFilters formats, operations can't contain spaces (role=ADMIN) and functions are read until its
+ * closing parenthesis, so they may contain spaces (contains(username, test)).
+ * <p>
+ * Expressions are received from clients, so groups and "not" operators can't be nested more than
+ * {@link #MAX_DEPTH} levels.
+ */
+@Slf4j
+final class QueryDslFilterExpressionParser {
+
+    // Configuration - Keywords
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    // Configuration - Maximum nesting of groups and "not" operators
+    static final int MAX_DEPTH = 64;
+
+    private final String expression;
+    private int position;
+    private int depth;
+
+    private QueryDslFilterExpressionParser(final String expression) {
+        this.expression = expression;
+        this.position = 0;
+    }
+
+    /**
+     * Parses received expression.
+     *
+     * @param expression: QueryDslFilterExpression in String format.
+     * @return QueryDslFilterExpression.
+     */
+    static QueryDslFilterExpression parse(final String expression) {
+        if (Objects.isNull(expression)) {
+            final String errorMsg = "Filter expression 'null' has wrong format.";
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        final QueryDslFilterExpressionParser parser = new QueryDslFilterExpressionParser(expression);
+        final QueryDslFilterExpression result = parser.parseOr();
+
+        // Whole expression must be consumed
+        parser.skipWhitespaces();
+
+        if (parser.position < expression.length()) {
+            throw parser.error("unexpected content");
+        }
+
+        return result;
+    }
+
+    private QueryDslFilterExpression parseOr() {
+        final List<QueryDslFilterExpression> operands = new ArrayList<>();
+        operands.add(parseAnd());
+
+        while (acceptKeyword(OR)) {
+            operands.add(parseAnd());
+        }
+
+        return operands.size() == 1 ? operands.get(0) : QueryDslFilterExpression.or(operands);
+    }
+
+    private QueryDslFilterExpression parseAnd() {
+        final List<QueryDslFilterExpression> operands = new ArrayList<>();
+        operands.add(parseNot());
+
+        while (acceptKeyword(AND)) {
+            operands.add(parseNot());
+        }
+
+        return operands.size() == 1 ? operands.get(0) : QueryDslFilterExpression.and(operands);
+    }
+
+    private QueryDslFilterExpression parseNot() {
+        QueryDslFilterExpression result;
+
+        if (acceptKeyword(NOT)) {
+            enter();
+            result = QueryDslFilterExpression.not(parseNot());
+            depth--;
+        } else {
+            result = parsePrimary();
+        }
+
+        return result;
+    }
+
+    private QueryDslFilterExpression parsePrimary() {
+        QueryDslFilterExpression result;
+        skipWhitespaces();
+
+        if (position >= expression.length()) {
+            throw error("filter expected");
+        }
+
+        if (expression.charAt(position) == '(') {
+            // Grouping
+            position++;
+            enter();
+            result = parseOr();
+            skipWhitespaces();
+
+            if (position >= expression.length() || expression.charAt(position) != ')') {
+                throw error("')' expected");
+            }
+
+            position++;
+            depth--;
+        } else if (acceptKeyword(TRUE)) {
+            result = QueryDslFilterExpression.TRUE;
+        } else if (acceptKeyword(FALSE)) {
+            result = QueryDslFilterExpression.FALSE;
+        } else {
+            result = QueryDslFilterExpression.of(QueryDslFiltersMapper.map(readFilter()));
+        }
+
+        return result;
+    }
+
+    private String readFilter() {
+        final int start = position;
+
+        while (position < expression.length() && !isDelimiter(expression.charAt(position))) {
+            position++;
+        }
+
+        // Function format: read arguments until closing parenthesis
+        if (position > start && position < expression.length() && expression.charAt(position) == '(') {
+            int depth = 0;
+
+            do {
+                final char character = expression.charAt(position);
+
+                if (character == '(') {
+                    depth++;
+                } else if (character == ')') {
+                    depth--;
+                }
+
+                position++;
+            } while (depth > 0 && position < expression.length());
+
+            if (depth > 0) {
+                throw error("')' expected");
+            }
+        }
+
+        if (position == start) {
+            throw error("filter expected");
+        }
+
+        return expression.substring(start, position);
+    }
+
+    private void enter() {
+        depth++;
+
+        if (depth > MAX_DEPTH) {
+            throw error(String.format("more than %s nested groups or 'not' operators", MAX_DEPTH));
+        }
+    }
+
+    private boolean acceptKeyword(final String keyword) {
+        skipWhitespaces();
+
+        final int end = position + keyword.length();
+        final boolean result = expression.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end >= expression.length() || isDelimiter(expression.charAt(end)));
+
+        if (result) {
+            position = end;
+        }
+
+        return result;
+    }
+
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isDelimiter(final char character) {
+        return Character.isWhitespace(character) || character == '(' || character == ')';
+    }
+
+    private QueryDslFiltersException error(final String reason) {
+        final String errorMsg = String.format("Filter expression '%s' has wrong format at position %s: %s.", expression, position, reason);
+        log.error(errorMsg);
+        return new QueryDslFiltersException(errorMsg);
+    }
+}
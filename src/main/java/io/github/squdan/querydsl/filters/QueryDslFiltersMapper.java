@@ -1,13 +1,17 @@
 package io.github.squdan.querydsl.filters;
 
+import io.github.squdan.querydsl.filters.util.LruCache;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -21,67 +25,42 @@ import java.util.stream.Stream;
  * Functions:
  * --> Example: nonNull(currency)
  * --> Example: contains(username, test)
+ * <p>
+ * Filters may be combined into expressions with "and", "or", "not" and parentheses:
+ * --> Example: role=ADMIN or (savings>1000 and nonNull(lastName))
+ * <p>
+ * Mapped filters may be cached enabling the cache with method: QueryDslFiltersMapper.enableCache(maximumSize)
  */
 public final class QueryDslFiltersMapper {
 
-    // Configuration - Allowed characters
-    private static final String ALLOWED_CHARACTERS_KEYS = "[A-Za-z0-9._()-]";
-    private static final String ALLOWED_CHARACTERS_VALUES = "[A-Za-z0-9.:_-]";
-    private static final String ALLOWED_FUNCTION_SEPARATOR_CHARACTERS = "[,:;]";
-
-    // Configuration - Operators formats
-    // --> Example: user.name = test
-    // --> Example: price <= 5.5
-    private static final String REGEX_QUERY_DSL_OPERATORS = "(%s+)(%s|%s)(%s+)";
-    // --> Example: nonNull(currency)
-    // --> Example: contains(username, test)
-    private static final String REGEX_QUERY_DSL_FUNCTION_OPERATORS = "(%s)\\((%s+) *%s? *(%s*)\\)";
-
-    // Configuration - Patterns to apply to build QueryDslFilters
-    private static final Pattern PATTERN_QUERY_DSL_OPERATORS;
-    private static final Pattern PATTERN_QUERY_DSL_FUNCTION_OPERATORS;
-
-    static {
-        final StringBuilder regexQueryDslOperatorsSimpleBuilder = new StringBuilder();
-        final StringBuilder regexQueryDslOperatorsMultipleBuilder = new StringBuilder();
-        final StringBuilder regexQueryDslFunctionOperatorsBuilder = new StringBuilder();
-
-        Stream.of(QueryDslOperators.values()).forEach(o -> {
-            // Normal operators
-            if (!o.isFunction()) {
-                // Split simple operators (=, >...) from multiple operators (>=, <=...)
-                if (o.getOperator().length() == 1) {
-                    if (!regexQueryDslOperatorsSimpleBuilder.isEmpty()) {
-                        regexQueryDslOperatorsSimpleBuilder.append("|");
-                    }
-
-                    regexQueryDslOperatorsSimpleBuilder.append(o.getOperator());
-                } else {
-                    if (!regexQueryDslOperatorsMultipleBuilder.isEmpty()) {
-                        regexQueryDslOperatorsMultipleBuilder.append("|");
-                    }
+    // Optional configuration - Cache of mapped filters, QueryDslFilter is immutable so it can be shared
+    private static volatile LruCache<String, QueryDslFilter> cache;
 
-                    regexQueryDslOperatorsMultipleBuilder.append(o.getOperator());
-                }
-            }
-
-            // Function operators
-            else {
-                if (!regexQueryDslFunctionOperatorsBuilder.isEmpty()) {
-                    regexQueryDslFunctionOperatorsBuilder.append("|");
-                }
-
-                regexQueryDslFunctionOperatorsBuilder.append(o.getOperator());
-            }
-        });
+    /**
+     * Enables a cache of mapped filters, so filters received multiple times are parsed only once.
+     * <p>
+     * Only filters with right format are cached. Previous cache, if any, is discarded.
+     *
+     * @param maximumSize: maximum number of cached filters, least recently used filters are evicted when exceeded.
+     */
+    public static void enableCache(final int maximumSize) {
+        cache = new LruCache<>(maximumSize);
+    }
 
-        // Prepare regex expressions
-        final String regexQueryDslOperators = String.format(REGEX_QUERY_DSL_OPERATORS, ALLOWED_CHARACTERS_KEYS, regexQueryDslOperatorsMultipleBuilder, regexQueryDslOperatorsSimpleBuilder, ALLOWED_CHARACTERS_VALUES);
-        final String regexQueryDslFunctionOperators = String.format(REGEX_QUERY_DSL_FUNCTION_OPERATORS, regexQueryDslFunctionOperatorsBuilder, ALLOWED_CHARACTERS_KEYS, ALLOWED_FUNCTION_SEPARATOR_CHARACTERS, ALLOWED_CHARACTERS_VALUES);
+    /**
+     * Disables and discards the cache of mapped filters.
+     */
+    public static void disableCache() {
+        cache = null;
+    }
 
-        // Prepare patterns
-        PATTERN_QUERY_DSL_OPERATORS = Pattern.compile(regexQueryDslOperators);
-        PATTERN_QUERY_DSL_FUNCTION_OPERATORS = Pattern.compile(regexQueryDslFunctionOperators);
+    /**
+     * Returns statistics of the cache of mapped filters (hits, misses, evictions...).
+     *
+     * @return cache statistics if cache is enabled.
+     */
+    public static Optional<LruCache.Statistics> getCacheStatistics() {
+        return Optional.ofNullable(cache).map(LruCache::getStatistics);
     }
 
     /**
@@ -93,14 +72,9 @@ public final class QueryDslFiltersMapper {
      * @return QueryDslFilter.
      */
     public static QueryDslFilter map(final String filter) {
-        QueryDslFilter result = processAsOperatorFilters(filter);
+        final QueryDslFilter result = mapOrNull(filter);
 
-        // if processAsOperatorFilters returns null, then received filter must be function
-        if (Objects.isNull(result)) {
-            result = processAsFunctionOperatorFilters(filter);
-        }
-
-        // if still null, then received filter has a wrong format
+        // if null, then received filter has a wrong format
         if (Objects.isNull(result)) {
             throw new QueryDslFiltersException(String.format("Filter '%s' has wrong format.", filter));
         }
@@ -130,35 +104,89 @@ public final class QueryDslFiltersMapper {
         return result;
     }
 
-    private static QueryDslFilter processAsOperatorFilters(final String filter) {
-        QueryDslFilter result = null;
+    /**
+     * Maps received QueryDslFilter list in String format to QueryDslFilter without throwing exceptions.
+     * <p>
+     * Wrong filters don't stop the mapping, they are returned as errors with the position where they were received.
+     * Use this method to validate filters from untrusted sources, rejecting wrong filters doesn't generate exceptions
+     * or messages. Only the format is validated, values are converted by type managers when filters are searched
+     * (check {@link QueryDslFilter#tryGetTypedValue(QueryDslValueConverter)}).
+     *
+     * @param filters: List QueryDslFilter in String format.
+     * @return QueryDslFiltersMappingResult with mapped filters and errors found.
+     */
+    public static QueryDslFiltersMappingResult tryMap(final List<String> filters) {
+        final List<QueryDslFilter> result = new ArrayList<>();
+        List<QueryDslFilterError> errors = null;
+
+        if (CollectionUtils.isNotEmpty(filters)) {
+            for (int i = 0; i < filters.size(); i++) {
+                final String filter = filters.get(i);
+                final QueryDslFilter queryDslFilter = mapOrNull(filter);
 
-        if (StringUtils.isNotBlank(filter)) {
-            final Matcher matcher = PATTERN_QUERY_DSL_OPERATORS.matcher(filter);
+                if (Objects.nonNull(queryDslFilter)) {
+                    result.add(queryDslFilter);
+                } else {
+                    if (Objects.isNull(errors)) {
+                        errors = new ArrayList<>();
+                    }
 
-            if (matcher.find()) {
-                result = QueryDslFilter.from(matcher.group(1), matcher.group(2), matcher.group(3));
+                    errors.add(new QueryDslFilterError(i, filter, StringUtils.isBlank(filter)
+                            ? QueryDslFilterError.Reason.BLANK
+                            : QueryDslFilterError.Reason.WRONG_FORMAT));
+                }
             }
         }
 
-        return result;
+        return new QueryDslFiltersMappingResult(result, Objects.isNull(errors) ? List.of() : errors);
     }
 
-    private static QueryDslFilter processAsFunctionOperatorFilters(final String filter) {
-        QueryDslFilter result = null;
+    /**
+     * Maps QueryDslFilters in String format read from received source, one filter per line, while they are consumed.
+     * <p>
+     * Only one filter is kept in memory at a time, so big documents can be processed. Blank lines are ignored and a
+     * filter with wrong format throws QueryDslFiltersException with its line number when it is reached.
+     * <p>
+     * Returned Stream must be closed to close the source.
+     *
+     * @param source: source of filters in String format.
+     * @return Stream of QueryDslFilter.
+     */
+    public static Stream<QueryDslFilter> stream(final Reader source) {
+        return new QueryDslFiltersReader(source).stream();
+    }
 
-        if (StringUtils.isNotBlank(filter)) {
-            final Matcher matcher = PATTERN_QUERY_DSL_FUNCTION_OPERATORS.matcher(filter);
+    /**
+     * Maps QueryDslFilters in String format (UTF-8) read from received channel, one filter per line, while they are
+     * consumed.
+     * <p>
+     * Returned Stream must be closed to close the channel.
+     *
+     * @param source: source of filters in String format.
+     * @return Stream of QueryDslFilter.
+     */
+    public static Stream<QueryDslFilter> stream(final ReadableByteChannel source) {
+        return stream(Channels.newReader(source, StandardCharsets.UTF_8));
+    }
 
-            if (matcher.find()) {
-                if (StringUtils.isBlank(matcher.group(3))) {
-                    result = QueryDslFilter.from(matcher.group(2), matcher.group(1));
-                } else {
-                    result = QueryDslFilter.from(matcher.group(2), matcher.group(1), matcher.group(3));
-                }
-            }
-        }
+    /**
+     * Maps received QueryDslFilterExpression in String format to QueryDslFilterExpression.
+     * <p>
+     * Expression may combine filters with "and", "or" and "not" operators (case-insensitive), group them with
+     * parentheses and use "true" and "false" constants. "not" has more precedence than "and" and "and" more than "or".
+     *
+     * @param expression: QueryDslFilterExpression in String format.
+     * @return QueryDslFilterExpression.
+     */
+    public static QueryDslFilterExpression mapExpression(final String expression) {
+        return QueryDslFilterExpressionParser.parse(expression);
+    }
 
-        return result;
+    private static QueryDslFilter mapOrNull(final String filter) {
+        final LruCache<String, QueryDslFilter> currentCache = cache;
+
+        return Objects.isNull(currentCache)
+                ? QueryDslFiltersParser.parse(filter)
+                : currentCache.computeIfAbsent(filter, QueryDslFiltersParser::parse);
     }
 }
@@ -0,0 +1,21 @@
+package io.github.squdan.querydsl.filters;
+
+import java.util.List;
+
+/**
+ * Result of mapping multiple filters at {@link QueryDslFiltersMapper} without throwing exceptions on wrong filters.
+ *
+ * @param filters: successfully mapped filters, in the same order they were received.
+ * @param errors:  errors found mapping filters, empty if all filters were mapped.
+ */
+public record QueryDslFiltersMappingResult(List<QueryDslFilter> filters, List<QueryDslFilterError> errors) {
+
+    /**
+     * Returns true if any received filter couldn't be mapped.
+     *
+     * @return true if there are errors.
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+}
@@ -0,0 +1,257 @@
+package io.github.squdan.querydsl.filters;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Hand-written parser to map from String to {@link QueryDslFilter} reading the filter once from left to right.
+ * <p>
+ * Supports the same formats as {@link QueryDslFiltersMapper}:
+ * <p>
+ * - Operations: key{{operator}}value
+ * --> Example: price<=5.5
+ * <p>
+ * - Functions: {{function_operator}}(key) or {{function_operator}}(key{{separator}}value)
+ * --> Example: nonNull(currency)
+ * --> Example: contains(username, test)
+ * --> Example: in(role : ADMIN|USER), only operators with multiple values accept '|' at values
+ * <p>
+ * Like the previous regex implementation, the filter may be found at any position of the received String and operation
+ * format has preference over function format.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class QueryDslFiltersParser {
+
+    // Configuration - Operators max length, longest operators must be checked first (>= before >)
+    private static final int NORMAL_OPERATORS_MAX_LENGTH = getOperatorsMaxLength(false);
+    private static final int FUNCTION_OPERATORS_MAX_LENGTH = getOperatorsMaxLength(true);
+
+    /**
+     * Parses received filter.
+     *
+     * @param filter: QueryDslFilter in String format.
+     * @return QueryDslFilter or null if filter has a wrong format.
+     */
+    static QueryDslFilter parse(final String filter) {
+        QueryDslFilter result = null;
+        QueryDslFilter functionResult = null;
+
+        if (Objects.nonNull(filter)) {
+            final int length = filter.length();
+            int position = 0;
+
+            while (Objects.isNull(result) && position < length) {
+                if (isKeyCharacter(filter.charAt(position))) {
+                    // Read full key: every filter format starts with key characters (key or function name)
+                    final int keyStart = position;
+
+                    while (position < length && isKeyCharacter(filter.charAt(position))) {
+                        position++;
+                    }
+
+                    // Operation format has preference, so it is returned as soon as it is found
+                    result = matchOperatorFilter(filter, keyStart, position);
+
+                    // Function format is kept until the whole filter has been checked for operations
+                    if (Objects.isNull(result) && Objects.isNull(functionResult)) {
+                        functionResult = matchFunctionFilter(filter, keyStart, position);
+                    }
+                }
+
+                position++;
+            }
+        }
+
+        return Objects.isNull(result) ? functionResult : result;
+    }
+
+    private static QueryDslFilter matchOperatorFilter(final String filter, final int keyStart, final int keyEnd) {
+        QueryDslFilter result = null;
+
+        for (int length = NORMAL_OPERATORS_MAX_LENGTH; Objects.isNull(result) && length > 0; length--) {
+            final int valueStart = keyEnd + length;
+            final QueryDslOperators operator = QueryDslOperators.from(filter, keyEnd, valueStart)
+                    .filter(o -> !o.isFunction())
+                    .orElse(null);
+
+            if (Objects.nonNull(operator)) {
+                final int valueEnd = skipValue(filter, valueStart, operator.hasMultipleValues());
+
+                // Value is mandatory for operations
+                if (valueEnd > valueStart) {
+                    result = new QueryDslFilter(
+                            filter.substring(keyStart, keyEnd),
+                            operator,
+                            filter.substring(valueStart, valueEnd)
+                    );
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static QueryDslFilter matchFunctionFilter(final String filter, final int keyStart, final int keyEnd) {
+        QueryDslFilter result = null;
+
+        // Arguments end doesn't depend on the opening parenthesis, so it is found once for all of them and only depends
+        // on the operator accepting multiple values separated by '|'
+        final FunctionArgumentsEnd[] argumentsEnds = new FunctionArgumentsEnd[2];
+
+        for (int position = keyStart; Objects.isNull(result) && position < keyEnd; position++) {
+            if (filter.charAt(position) == '(') {
+                final QueryDslOperators operator = findFunctionOperator(filter, keyStart, position);
+
+                if (Objects.nonNull(operator)) {
+                    final int index = operator.hasMultipleValues() ? 1 : 0;
+
+                    if (Objects.isNull(argumentsEnds[index])) {
+                        argumentsEnds[index] = FunctionArgumentsEnd.of(filter, keyStart, keyEnd, operator.hasMultipleValues());
+                    }
+
+                    result = argumentsEnds[index].toFilter(filter, operator, position + 1);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static QueryDslOperators findFunctionOperator(final String filter, final int keyStart, final int functionEnd) {
+        QueryDslOperators result = null;
+
+        // Longest function name ending just before the parenthesis
+        for (int start = Math.max(keyStart, functionEnd - FUNCTION_OPERATORS_MAX_LENGTH); Objects.isNull(result) && start < functionEnd; start++) {
+            result = QueryDslOperators.from(filter, start, functionEnd)
+                    .filter(QueryDslOperators::isFunction)
+                    .orElse(null);
+        }
+
+        return result;
+    }
+
+    private static int skipSeparator(final String filter, final int start) {
+        int result = skipSpaces(filter, start);
+
+        if (result < filter.length() && isSeparatorCharacter(filter.charAt(result))) {
+            result = skipSpaces(filter, result + 1);
+        }
+
+        return result;
+    }
+
+    private static int skipSpaces(final String filter, final int start) {
+        int result = start;
+
+        while (isCharacter(filter, result, ' ')) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static int skipValue(final String filter, final int start, final boolean multipleValues) {
+        int result = start;
+
+        while (result < filter.length() && (isValueCharacter(filter.charAt(result)) || (multipleValues && filter.charAt(result) == '|'))) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static boolean isCharacter(final String filter, final int position, final char character) {
+        return position < filter.length() && filter.charAt(position) == character;
+    }
+
+    // Allowed characters - keys: [A-Za-z0-9._()-]
+    private static boolean isKeyCharacter(final char character) {
+        return isAlphanumeric(character) || character == '.' || character == '_' || character == '(' || character == ')' || character == '-';
+    }
+
+    // Allowed characters - values: [A-Za-z0-9.:_-], and '|' separating values of multiple values operators (in, notIn)
+    private static boolean isValueCharacter(final char character) {
+        return isAlphanumeric(character) || character == '.' || character == ':' || character == '_' || character == '-';
+    }
+
+    // Allowed characters - function separators: [,:;]
+    private static boolean isSeparatorCharacter(final char character) {
+        return character == ',' || character == ':' || character == ';';
+    }
+
+    private static boolean isAlphanumeric(final char character) {
+        return (character >= 'A' && character <= 'Z') || (character >= 'a' && character <= 'z') || (character >= '0' && character <= '9');
+    }
+
+    private static int getOperatorsMaxLength(final boolean function) {
+        return Stream.of(QueryDslOperators.values())
+                .filter(o -> o.isFunction() == function)
+                .mapToInt(o -> o.getOperator().length())
+                .max()
+                .orElse(0);
+    }
+
+    /**
+     * End of the arguments of a function into a key, shared by every opening parenthesis of the key so the key
+     * characters are read only once.
+     *
+     * @param keyEnd:     end of function key, -1 if key characters can't be closed as function arguments.
+     * @param valueStart: start of function value.
+     * @param valueEnd:   end of function value, same as valueStart if function has no value.
+     */
+    private record FunctionArgumentsEnd(int keyEnd, int valueStart, int valueEnd) {
+
+        static FunctionArgumentsEnd of(final String filter, final int keyStart, final int keyCharactersEnd, final boolean multipleValues) {
+            final FunctionArgumentsEnd result;
+            final int lastKeyCharacter = keyCharactersEnd - 1;
+
+            // Longest key: all key characters, followed by an optional separator and value
+            final int valueStart = skipSeparator(filter, keyCharactersEnd);
+            final int valueEnd = skipValue(filter, valueStart, multipleValues);
+            final int keyValueEnd = skipValue(filter, keyCharactersEnd, multipleValues);
+
+            if (isCharacter(filter, valueEnd, ')')) {
+                result = new FunctionArgumentsEnd(keyCharactersEnd, valueStart, valueEnd);
+            } else if (filter.charAt(lastKeyCharacter) == ')') {
+                // Shorter keys: last key character closes the function
+                result = new FunctionArgumentsEnd(lastKeyCharacter, lastKeyCharacter, lastKeyCharacter);
+            } else if (filter.charAt(lastKeyCharacter) != '(' && isCharacter(filter, keyValueEnd, ')')) {
+                // Shorter keys: last key character starts the value closing the function
+                result = new FunctionArgumentsEnd(lastKeyCharacter, lastKeyCharacter, keyValueEnd);
+            } else {
+                // Shorter keys: last closing parenthesis of the key closes the function
+                int closingParenthesis = -1;
+
+                for (int position = lastKeyCharacter; closingParenthesis < 0 && position >= keyStart; position--) {
+                    if (filter.charAt(position) == ')') {
+                        closingParenthesis = position;
+                    }
+                }
+
+                result = new FunctionArgumentsEnd(closingParenthesis, closingParenthesis, closingParenthesis);
+            }
+
+            return result;
+        }
+
+        QueryDslFilter toFilter(final String filter, final QueryDslOperators operator, final int argumentsStart) {
+            QueryDslFilter result = null;
+
+            // Function key is mandatory
+            if (keyEnd > argumentsStart) {
+                final String key = filter.substring(argumentsStart, keyEnd);
+
+                if (valueEnd > valueStart) {
+                    result = new QueryDslFilter(key, operator, filter.substring(valueStart, valueEnd));
+                } else {
+                    result = new QueryDslFilter(key, operator);
+                }
+            }
+
+            return result;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.squdan.querydsl.filters;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads QueryDslFilters in String format from a {@link Reader}, one filter per line, mapping them one by one while
+ * they are requested.
+ * <p>
+ * Only the current line is kept in memory, so documents with thousands of filters (Example: long "in" lists) can be
+ * processed without loading the whole document. Blank lines are ignored.
+ * <p>
+ * Filters read are not added to the {@link QueryDslFiltersMapper} cache, so big documents don't evict filters
+ * received frequently.
+ */
+@Slf4j
+public final class QueryDslFiltersReader implements Iterator<QueryDslFilter>, Closeable {
+
+    // Configuration
+    private final BufferedReader reader;
+
+    // State
+    private QueryDslFilter nextFilter;
+    private int lineNumber;
+    private boolean finished;
+
+    /**
+     * Constructor from the source of filters.
+     *
+     * @param reader: source of filters in String format, one filter per line.
+     */
+    public QueryDslFiltersReader(final Reader reader) {
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(nextFilter) && !finished) {
+            nextFilter = readFilter();
+        }
+
+        return Objects.nonNull(nextFilter);
+    }
+
+    @Override
+    public QueryDslFilter next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more filters to read.");
+        }
+
+        final QueryDslFilter result = nextFilter;
+        nextFilter = null;
+
+        return result;
+    }
+
+    /**
+     * Returns a sequential Stream with the filters pending to read, closing the Stream closes this reader.
+     *
+     * @return Stream of QueryDslFilter.
+     */
+    public Stream<QueryDslFilter> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Closes the source of filters.
+     */
+    @Override
+    public void close() {
+        finished = true;
+        nextFilter = null;
+
+        try {
+            reader.close();
+        } catch (final IOException e) {
+            final String errorMsg = "Error closing filters source.";
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(e, errorMsg);
+        }
+    }
+
+    private QueryDslFilter readFilter() {
+        QueryDslFilter result = null;
+
+        while (Objects.isNull(result) && !finished) {
+            final String line = readLine();
+
+            if (Objects.isNull(line)) {
+                finished = true;
+            } else if (StringUtils.isNotBlank(line)) {
+                result = QueryDslFiltersParser.parse(line);
+
+                // if null, then received filter has a wrong format
+                if (Objects.isNull(result)) {
+                    final String errorMsg = String.format("Filter '%s' at line %s has wrong format.", StringUtils.abbreviate(line, 100), lineNumber);
+                    log.error(errorMsg);
+                    throw new QueryDslFiltersException(errorMsg);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private String readLine() {
+        String result;
+
+        try {
+            result = reader.readLine();
+            lineNumber++;
+        } catch (final IOException e) {
+            final String errorMsg = String.format("Error reading filter at line %s.", lineNumber + 1);
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(e, errorMsg);
+        }
+
+        return result;
+    }
+}
@@ -2,7 +2,10 @@ package io.github.squdan.querydsl.filters;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -17,6 +20,7 @@ import java.util.stream.Stream;
  * - Functions: isNull, equals, contains, etc...
  * +++ Example: isNull(username)
  * +++ Example: equals(username, test)
+ * +++ Example: in(username, admin|user)
  */
 @Getter
 @AllArgsConstructor
@@ -38,7 +42,24 @@ public enum QueryDslOperators {
     GREATER_THAN_OR_EQUALS(">=", false), GREATER_THAN_OR_EQUALS_FUNCTION_GTE("gte", true),
     // Lower
     LOWER_THAN("<", false), LOWER_THAN_FUNCTION_LT("lt", true),
-    LOWER_THAN_OR_EQUALS("<=", false), LOWER_THAN_OR_EQUALS_FUNCTION_LTE("lte", true);
+    LOWER_THAN_OR_EQUALS("<=", false), LOWER_THAN_OR_EQUALS_FUNCTION_LTE("lte", true),
+    // In (values separated by '|')
+    IN_FUNCTION("in", true), NOT_IN_FUNCTION("notIn", true);
+
+    // Configuration - Lookup table of operators indexed by operator length and first character
+    private static final int LOOKUP_CHARACTERS = 128;
+    private static final int MAX_OPERATOR_LENGTH = Stream.of(values()).mapToInt(o -> o.getOperator().length()).max().orElse(0);
+    private static final QueryDslOperators[][] LOOKUP_TABLE = new QueryDslOperators[(MAX_OPERATOR_LENGTH + 1) * LOOKUP_CHARACTERS][];
+
+    // Configuration - Results are shared to avoid allocating a new Optional in each search
+    private static final List<Optional<QueryDslOperators>> LOOKUP_RESULTS = Stream.of(values()).map(Optional::of).toList();
+
+    static {
+        for (QueryDslOperators o : values()) {
+            final int index = getLookupIndex(o.getOperator().length(), o.getOperator().charAt(0));
+            LOOKUP_TABLE[index] = ArrayUtils.add(LOOKUP_TABLE[index], o);
+        }
+    }
 
     private final String operator;
     private final boolean function;
@@ -50,6 +71,57 @@ public enum QueryDslOperators {
      * @return QueryDslOperator if found.
      */
     public static Optional<QueryDslOperators> from(final String operator) {
-        return Stream.of(QueryDslOperators.values()).filter(o -> o.getOperator().equals(operator)).findFirst();
+        return Objects.isNull(operator) ? Optional.empty() : from(operator, 0, operator.length());
+    }
+
+    /**
+     * Returns QueryDslOperator that matches with the received region of the CharSequence, so operators can be resolved
+     * without generating a new String.
+     *
+     * @param source: CharSequence containing the operator.
+     * @param start:  operator start index (inclusive).
+     * @param end:    operator end index (exclusive).
+     * @return QueryDslOperator if found.
+     */
+    public static Optional<QueryDslOperators> from(final CharSequence source, final int start, final int end) {
+        Optional<QueryDslOperators> result = Optional.empty();
+
+        if (Objects.nonNull(source) && start >= 0 && start < end && end <= source.length() && end - start <= MAX_OPERATOR_LENGTH
+                && source.charAt(start) < LOOKUP_CHARACTERS) {
+            final QueryDslOperators[] candidates = LOOKUP_TABLE[getLookupIndex(end - start, source.charAt(start))];
+
+            if (Objects.nonNull(candidates)) {
+                for (int i = 0; result.isEmpty() && i < candidates.length; i++) {
+                    if (candidates[i].matches(source, start, end)) {
+                        result = LOOKUP_RESULTS.get(candidates[i].ordinal());
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns true if the operator receives a list of values (in, notIn) instead of a single value.
+     *
+     * @return true if operator receives multiple values.
+     */
+    public boolean hasMultipleValues() {
+        return this == IN_FUNCTION || this == NOT_IN_FUNCTION;
+    }
+
+    private boolean matches(final CharSequence source, final int start, final int end) {
+        boolean result = operator.length() == end - start;
+
+        for (int i = 1; result && i < operator.length(); i++) {
+            result = operator.charAt(i) == source.charAt(start + i);
+        }
+
+        return result;
+    }
+
+    private static int getLookupIndex(final int length, final char firstCharacter) {
+        return length * LOOKUP_CHARACTERS + firstCharacter;
     }
 }
@@ -0,0 +1,65 @@
+package io.github.squdan.querydsl.filters;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Value of a {@link QueryDslFilter} converted to the type of the entity field.
+ * <p>
+ * Operators with a single value (=, >, contains...) use "value" and operators with multiple values (in, notIn) use
+ * "values". Numeric values are also kept as primitives to compare them without unboxing.
+ *
+ * @param <V>: value type.
+ */
+@Getter
+public final class QueryDslTypedValue<V> {
+
+    /**
+     * Converter used to generate the value.
+     */
+    private final QueryDslValueConverter<V> converter;
+
+    /**
+     * Converted value, null if filter has no value or operator has multiple values.
+     */
+    private final V value;
+
+    /**
+     * Converted values, value as single element list if operator has a single value.
+     */
+    private final List<V> values;
+
+    /**
+     * True if value is a number, so "doubleValue" and "longValue" are available.
+     */
+    private final boolean number;
+
+    /**
+     * Value as double, 0 if value isn't a number.
+     */
+    private final double doubleValue;
+
+    /**
+     * Value as long, 0 if value isn't a number.
+     */
+    private final long longValue;
+
+    QueryDslTypedValue(final QueryDslValueConverter<V> converter, final V value, final List<V> values) {
+        this.converter = converter;
+        this.value = value;
+        this.values = values;
+        this.number = value instanceof Number;
+        this.doubleValue = this.number ? ((Number) value).doubleValue() : 0;
+        this.longValue = this.number ? ((Number) value).longValue() : 0;
+    }
+
+    /**
+     * Type of the converted value.
+     *
+     * @return value type.
+     */
+    public Class<V> getType() {
+        return converter.getType();
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.squdan.querydsl.filters;
+
+/**
+ * Converts raw values of {@link QueryDslFilter} (Strings received from clients, objects configured in java...) to the
+ * type of the entity field they are compared with.
+ * <p>
+ * Converted values are kept by the {@link QueryDslConversionContext} of each compilation, so each filter value is
+ * converted only once for each converter (check {@link QueryDslFilter#getTypedValue(QueryDslValueConverter)}).
+ * Converters must be stateless and reused, kept values are associated to the converter instance.
+ *
+ * @param <V>: converted value type.
+ */
+public interface QueryDslValueConverter<V> {
+
+    /**
+     * Type of the converted values.
+     *
+     * @return converted value type.
+     */
+    Class<V> getType();
+
+    /**
+     * Converts received raw value.
+     *
+     * @param value: raw value to convert, never null.
+     * @return converted value or null if value couldn't be converted.
+     * @throws IllegalArgumentException if value couldn't be converted.
+     */
+    V convert(Object value);
+}
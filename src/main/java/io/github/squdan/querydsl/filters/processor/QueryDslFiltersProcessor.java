@@ -0,0 +1,228 @@
+package io.github.squdan.querydsl.filters.processor;
+
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFieldDescriptor;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFilterDescriptor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a {@link QueryDslFilterDescriptor} for each @Entity, @Embeddable and
+ * @MappedSuperclass, so entity fields are known without reflection at runtime.
+ * <p>
+ * It isn't registered as a service, so it only runs when it is named along with QueryDsl annotation processor:
+ * <pre>
+ * &lt;processors&gt;
+ *     &lt;processor&gt;com.querydsl.apt.jpa.JPAAnnotationProcessor&lt;/processor&gt;
+ *     &lt;processor&gt;io.github.squdan.querydsl.filters.processor.QueryDslFiltersProcessor&lt;/processor&gt;
+ * &lt;/processors&gt;
+ * </pre>
+ * <p>
+ * Descriptors are generated at the package of their entity, so entities with fields (own or inherited) whose types
+ * can't be referenced from that package (Example: private types, or package-private and protected types of other
+ * packages) keep using reflection.
+ */
+@SupportedAnnotationTypes({
+        QueryDslFiltersProcessor.ENTITY,
+        QueryDslFiltersProcessor.EMBEDDABLE,
+        QueryDslFiltersProcessor.MAPPED_SUPERCLASS
+})
+public final class QueryDslFiltersProcessor extends AbstractProcessor {
+
+    // Configuration - Supported annotations
+    static final String ENTITY = "jakarta.persistence.Entity";
+    static final String EMBEDDABLE = "jakarta.persistence.Embeddable";
+    static final String MAPPED_SUPERCLASS = "jakarta.persistence.MappedSuperclass";
+
+    // State - Descriptors already generated by previous rounds
+    private final Set<String> generatedDescriptors = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement entity : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                final String descriptorName = QueryDslFilterDescriptor.getDescriptorName(processingEnv.getElementUtils().getBinaryName(entity).toString());
+
+                if (isAccessible(entity, getPackage(entity)) && generatedDescriptors.add(descriptorName)) {
+                    generate(entity, descriptorName);
+                }
+            }
+        }
+
+        // Annotations are shared with other processors (Example: QueryDsl)
+        return false;
+    }
+
+    private void generate(final TypeElement entity, final String descriptorName) {
+        final Map<String, String> fields = readFields(entity);
+
+        if (Objects.nonNull(fields)) {
+            try (Writer writer = processingEnv.getFiler().createSourceFile(descriptorName, entity).openWriter()) {
+                writer.write(getSource(entity, descriptorName, fields));
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("Error generating filter descriptor '%s': %s", descriptorName, e.getMessage()), entity);
+            }
+        } else {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    String.format("Filter descriptor '%s' not generated, entity has fields of types not accessible from its package.", descriptorName), entity);
+        }
+    }
+
+    private Map<String, String> readFields(final TypeElement entity) {
+        final Map<String, String> result = new LinkedHashMap<>();
+        final PackageElement descriptorPackage = getPackage(entity);
+        boolean accessible = true;
+
+        // Fields declared at subclasses hide fields with the same name declared at superclasses
+        for (TypeElement type = entity; accessible && Objects.nonNull(type); type = getSuperclass(type)) {
+            for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+                final String fieldName = field.getSimpleName().toString();
+
+                if (accessible && !field.getModifiers().contains(Modifier.STATIC) && !result.containsKey(fieldName)) {
+                    final String fieldDescriptor = getFieldDescriptor(field.asType(), descriptorPackage);
+                    accessible = Objects.nonNull(fieldDescriptor);
+                    result.put(fieldName, fieldDescriptor);
+                }
+            }
+        }
+
+        return accessible ? result : null;
+    }
+
+    private String getFieldDescriptor(final TypeMirror fieldType, final PackageElement descriptorPackage) {
+        String result = null;
+
+        final TypeMirror type = processingEnv.getTypeUtils().erasure(fieldType);
+        TypeMirror elementType = type;
+
+        // Collections are traversed through the type of their elements
+        final TypeMirror collectionType = processingEnv.getTypeUtils().erasure(
+                processingEnv.getElementUtils().getTypeElement("java.util.Collection").asType());
+
+        if (processingEnv.getTypeUtils().isAssignable(type, collectionType)
+                && fieldType instanceof DeclaredType declaredType
+                && !declaredType.getTypeArguments().isEmpty()
+                && declaredType.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+            elementType = processingEnv.getTypeUtils().erasure(declaredType.getTypeArguments().get(0));
+        }
+
+        if (isAccessible(type, descriptorPackage) && isAccessible(elementType, descriptorPackage)) {
+            result = String.format("new %s(%s.class, %s.class)", QueryDslFieldDescriptor.class.getSimpleName(), type, elementType);
+        }
+
+        return result;
+    }
+
+    private boolean isAccessible(final TypeMirror type, final PackageElement fromPackage) {
+        boolean result = true;
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            result = isAccessible(processingEnv.getTypeUtils().asElement(type), fromPackage);
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            result = isAccessible(((ArrayType) type).getComponentType(), fromPackage);
+        }
+
+        return result;
+    }
+
+    private boolean isAccessible(final Element element, final PackageElement fromPackage) {
+        // Types and their enclosing types must be public, or not private and declared at the same package
+        final boolean samePackage = getPackage(element).equals(fromPackage);
+        boolean result = true;
+
+        for (Element current = element; result && current.getKind() != ElementKind.PACKAGE; current = current.getEnclosingElement()) {
+            result = current.getKind() != ElementKind.TYPE_PARAMETER && (current.getModifiers().contains(Modifier.PUBLIC)
+                    || (samePackage && !current.getModifiers().contains(Modifier.PRIVATE)));
+        }
+
+        return result;
+    }
+
+    private PackageElement getPackage(final Element element) {
+        return processingEnv.getElementUtils().getPackageOf(element);
+    }
+
+    private TypeElement getSuperclass(final TypeElement type) {
+        TypeElement result = null;
+
+        if (type.getSuperclass().getKind() == TypeKind.DECLARED) {
+            final TypeElement superclass = (TypeElement) processingEnv.getTypeUtils().asElement(type.getSuperclass());
+            result = Object.class.getName().equals(superclass.getQualifiedName().toString()) ? null : superclass;
+        }
+
+        return result;
+    }
+
+    private String getSource(final TypeElement entity, final String descriptorName, final Map<String, String> fields) {
+        final PackageElement entityPackage = getPackage(entity);
+        final String descriptorSimpleName = descriptorName.substring(descriptorName.lastIndexOf('.') + 1);
+        final StringBuilder result = new StringBuilder();
+
+        if (!entityPackage.isUnnamed()) {
+            result.append("package ").append(entityPackage.getQualifiedName()).append(";\n\n");
+        }
+
+        result.append("import ").append(QueryDslFieldDescriptor.class.getName()).append(";\n")
+                .append("import ").append(QueryDslFilterDescriptor.class.getName()).append(";\n\n")
+                .append("import java.util.Map;\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("public final class ").append(descriptorSimpleName).append(" implements ").append(QueryDslFilterDescriptor.class.getSimpleName()).append(" {\n\n")
+                .append("    private static final Map<String, ").append(QueryDslFieldDescriptor.class.getSimpleName()).append("> FIELDS = Map.ofEntries(");
+
+        String separator = "\n";
+
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            result.append(separator).append("            Map.entry(\"").append(field.getKey()).append("\", ").append(field.getValue()).append(")");
+            separator = ",\n";
+        }
+
+        result.append("\n    );\n\n")
+                .append("    @Override\n")
+                .append("    public Class<?> getEntityType() {\n")
+                .append("        return ").append(entity.getQualifiedName()).append(".class;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String getVariableName() {\n")
+                .append("        return \"").append(getVariableName(entity)).append("\";\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public Map<String, ").append(QueryDslFieldDescriptor.class.getSimpleName()).append("> getFields() {\n")
+                .append("        return FIELDS;\n")
+                .append("    }\n")
+                .append("}\n");
+
+        return result.toString();
+    }
+
+    private static String getVariableName(final TypeElement entity) {
+        final String simpleName = entity.getSimpleName().toString();
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+}
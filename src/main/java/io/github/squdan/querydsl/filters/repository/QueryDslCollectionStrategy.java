@@ -0,0 +1,27 @@
+package io.github.squdan.querydsl.filters.repository;
+
+/**
+ * Strategies to apply filters over fields of collection elements (Example: accounts.amount>100), check
+ * {@link QueryDslCollectionsConfiguration}.
+ * <p>
+ * Both strategies return the same results, each database may choose a different plan for them depending on collection
+ * cardinality and available indexes.
+ */
+public enum QueryDslCollectionStrategy {
+
+    /**
+     * Correlated subquery over the collection, executed for each entity (default):
+     * <p>
+     * - exists (select 1 from userEntity.accounts as userEntity_accounts where userEntity_accounts.amount > ?1)
+     */
+    EXISTS,
+
+    /**
+     * Semi-join with the entities joined to the matching elements, calculated once for all entities. The join is
+     * resolved inside the subquery, so each entity is returned only once without "distinct":
+     * <p>
+     * - userEntity in (select userEntity_accounts_owner from UserEntity userEntity_accounts_owner inner join
+     * userEntity_accounts_owner.accounts as userEntity_accounts where userEntity_accounts.amount > ?1)
+     */
+    IN_SUBQUERY
+}
@@ -0,0 +1,58 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import io.github.squdan.querydsl.filters.repository.type.QueryDslCollectionTypeManager;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * Configuration of filters over fields of collection elements (Example: accounts.amount), used by
+ * {@link QueryDslCollectionTypeManager}.
+ * <p>
+ * By default, filters over the same collection are applied in a single subquery, so all of them must match the same
+ * element (Example: accounts.bank=bank_name and accounts.amount>100 -> an account of bank_name with more than 100).
+ * Configuring "independentFilters", each filter is applied in its own subquery and may match a different element.
+ * <p>
+ * Subqueries use the configured {@link QueryDslCollectionStrategy}, which can be overridden for specific collections:
+ * <p>
+ * - QueryDslCollectionsConfiguration.builder().strategy(IN_SUBQUERY).pathStrategy("accounts", EXISTS).build()
+ */
+@Value
+@Builder(toBuilder = true)
+public class QueryDslCollectionsConfiguration {
+
+    /**
+     * Default configuration: filters over the same collection must match the same element.
+     */
+    public static final QueryDslCollectionsConfiguration DEFAULT = QueryDslCollectionsConfiguration.builder().build();
+
+    /**
+     * If true, each filter over a collection may match a different element.
+     */
+    @Builder.Default
+    boolean independentFilters = false;
+
+    /**
+     * Strategy used for collections without a specific one.
+     */
+    @Builder.Default
+    QueryDslCollectionStrategy strategy = QueryDslCollectionStrategy.EXISTS;
+
+    /**
+     * Strategies of specific collections, by collection field name in the entity owning it (Example: accounts).
+     */
+    @Singular
+    Map<String, QueryDslCollectionStrategy> pathStrategies;
+
+    /**
+     * Returns the strategy to apply filters over received collection.
+     *
+     * @param collectionPath: collection field name in the entity owning it.
+     * @return QueryDslCollectionStrategy.
+     */
+    public QueryDslCollectionStrategy getStrategy(final String collectionPath) {
+        return pathStrategies.getOrDefault(collectionPath, strategy);
+    }
+}
@@ -0,0 +1,411 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslEntityMetadata;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFieldMetadata;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslBooleanTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslEnumTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslNumberTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslUuidTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslValueConverters;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Simplifies filters of an entity before {@link QueryDslPredicateFactory} generates their predicates, used by
+ * {@link QueryDslPredicateCompiler}.
+ * <p>
+ * Filters are applied together (and), so filters of the same key can be merged:
+ * <p>
+ * - Repeated filters are removed.
+ * - Equals and "in" filters are merged into a single equals / "in" with their common values.
+ * - Bounds (>, >=, <, <=) are merged into the tightest range (Example: savings>10 and savings>20 -> savings>20).
+ * - Not equals and "not in" filters are merged into a single not equals / "not in".
+ * - Filters that can never match together are detected (Example: role=ADMIN and role=USER).
+ * <p>
+ * Values are only compared for fields managed by built-in number, enum, UUID and boolean type managers, where values
+ * have a single meaning. Filters of other fields (custom types, strings, dates) and fields inside collections, where
+ * each filter may match a different element, are only deduplicated. Filters whose values can't be converted are kept,
+ * so type managers report them as usual.
+ *
+ * @param <T>: entity type.
+ */
+final class QueryDslFiltersOptimizer<T> {
+
+    // Configuration
+    private final Class<T> entityType;
+    private final QueryDslPredicateFactory queryDslPredicateFactory;
+
+    QueryDslFiltersOptimizer(final Class<T> entityType, final QueryDslPredicateFactory queryDslPredicateFactory) {
+        this.entityType = entityType;
+        this.queryDslPredicateFactory = queryDslPredicateFactory;
+    }
+
+    /**
+     * Simplifies received filters.
+     *
+     * @param filters: non-null filters to simplify.
+     * @return Optional with simplified filters, empty if filters can never match together.
+     */
+    Optional<List<QueryDslFilter>> optimize(final List<QueryDslFilter> filters) {
+        Optional<List<QueryDslFilter>> result = Optional.of(filters);
+
+        // Filters of different keys can't be simplified
+        if (hasRepeatedKeys(filters)) {
+            final Map<String, List<QueryDslFilter>> filtersByKey = new LinkedHashMap<>();
+
+            for (QueryDslFilter filter : filters) {
+                final List<QueryDslFilter> keyFilters = filtersByKey.computeIfAbsent(filter.getKey(), key -> new ArrayList<>());
+
+                if (!keyFilters.contains(filter)) {
+                    keyFilters.add(filter);
+                }
+            }
+
+            final List<QueryDslFilter> optimizedFilters = new ArrayList<>(filters.size());
+            final Iterator<List<QueryDslFilter>> keysFilters = filtersByKey.values().iterator();
+            boolean satisfiable = true;
+
+            while (satisfiable && keysFilters.hasNext()) {
+                final List<QueryDslFilter> keyFilters = keysFilters.next();
+                final List<QueryDslFilter> optimizedKeyFilters = keyFilters.size() == 1 ? keyFilters : optimizeKey(keyFilters);
+
+                satisfiable = Objects.nonNull(optimizedKeyFilters);
+
+                if (satisfiable) {
+                    optimizedFilters.addAll(optimizedKeyFilters);
+                }
+            }
+
+            result = satisfiable ? Optional.of(optimizedFilters) : Optional.empty();
+        }
+
+        return result;
+    }
+
+    private static boolean hasRepeatedKeys(final List<QueryDslFilter> filters) {
+        boolean result = false;
+
+        if (filters.size() > 1) {
+            final Set<String> keys = new HashSet<>();
+
+            for (int i = 0; !result && i < filters.size(); i++) {
+                result = !keys.add(filters.get(i).getKey());
+            }
+        }
+
+        return result;
+    }
+
+    private List<QueryDslFilter> optimizeKey(final List<QueryDslFilter> filters) {
+        List<QueryDslFilter> result = filters;
+
+        final QueryDslFieldMetadata field = QueryDslEntityMetadata.of(entityType).getField(filters.get(0).getKey()).orElse(null);
+
+        if (Objects.nonNull(field) && !field.hasCollection()) {
+            final QueryDslTypeManager typeManager = queryDslPredicateFactory.getSelectedTypeManager(entityType, filters.get(0));
+            final Function<Object, Comparable<Object>> canonicalizer = getCanonicalizer(field, typeManager);
+
+            if (Objects.nonNull(canonicalizer)) {
+                // Only numbers are compared by order, the rest of types only by equality
+                final boolean ordered = typeManager instanceof QueryDslNumberTypeManager;
+                final Predicate<Object> fieldValues = ordered ? value -> QueryDslNumberTypeManager.isFieldValue(field.type(), value) : value -> true;
+                final KeyConstraints constraints = new KeyConstraints(canonicalizer, fieldValues, ordered);
+                result = constraints.addAll(filters) ? constraints.toFilters(filters.get(0).getKey()) : filters;
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Function<Object, Comparable<Object>> getCanonicalizer(final QueryDslFieldMetadata field,
+                                                                         final QueryDslTypeManager typeManager) {
+        Function<Object, ?> result = null;
+
+        if (typeManager instanceof QueryDslNumberTypeManager) {
+            // Same number with different scale (Example: 10 and 10.0) must be equal
+            final QueryDslValueConverter<BigDecimal> converter = QueryDslValueConverters.number(BigDecimal.class);
+            result = value -> converter.convert(value).stripTrailingZeros();
+        } else if (typeManager instanceof QueryDslEnumTypeManager) {
+            result = QueryDslEnumTypeManager.getConverter((Class) field.type())::convert;
+        } else if (typeManager instanceof QueryDslUuidTypeManager) {
+            result = QueryDslValueConverters.UUID::convert;
+        } else if (typeManager instanceof QueryDslBooleanTypeManager) {
+            result = QueryDslValueConverters.BOOLEAN::convert;
+        }
+
+        return (Function<Object, Comparable<Object>>) result;
+    }
+
+    /**
+     * Bound of a range.
+     *
+     * @param value:     canonical value.
+     * @param inclusive: true if value is included at the range.
+     * @param filter:    filter generating the bound.
+     */
+    private record Bound(Comparable<Object> value, boolean inclusive, QueryDslFilter filter) {
+    }
+
+    /**
+     * Constraints of all filters of a key.
+     */
+    private static final class KeyConstraints {
+
+        // Configuration
+        private final Function<Object, Comparable<Object>> canonicalizer;
+        private final Predicate<Object> fieldValues;
+        private final boolean ordered;
+
+        // State - Raw values by canonical value
+        private QueryDslFilter isNull;
+        private QueryDslFilter nonNull;
+        private Map<Comparable<Object>, Object> allowed;
+        private final Map<Comparable<Object>, Object> excluded = new LinkedHashMap<>();
+        private Bound lower;
+        private Bound upper;
+
+        KeyConstraints(final Function<Object, Comparable<Object>> canonicalizer, final Predicate<Object> fieldValues,
+                       final boolean ordered) {
+            this.canonicalizer = canonicalizer;
+            this.fieldValues = fieldValues;
+            this.ordered = ordered;
+        }
+
+        /**
+         * Adds constraints of received filters.
+         *
+         * @param filters: filters of the same key.
+         * @return true if all filters are supported and their values could be converted.
+         */
+        boolean addAll(final List<QueryDslFilter> filters) {
+            boolean result = true;
+
+            try {
+                for (int i = 0; result && i < filters.size(); i++) {
+                    result = add(filters.get(i));
+                }
+            } catch (final IllegalArgumentException e) {
+                // Wrong values are reported by type managers
+                result = false;
+            }
+
+            return result;
+        }
+
+        /**
+         * Generates the filters matching all constraints.
+         *
+         * @param key: filters key.
+         * @return List of filters, null if constraints can never match together.
+         */
+        List<QueryDslFilter> toFilters(final String key) {
+            List<QueryDslFilter> result = new ArrayList<>(2);
+
+            if (Objects.nonNull(isNull)) {
+                // Comparisons never match null values
+                result = Objects.isNull(nonNull) && Objects.isNull(allowed) && excluded.isEmpty()
+                        && Objects.isNull(lower) && Objects.isNull(upper) ? List.of(isNull) : null;
+            } else if (Objects.nonNull(allowed)) {
+                allowed.keySet().removeIf(value -> excluded.containsKey(value) || !isInRange(value));
+                result = allowed.isEmpty() ? null : List.of(toFilter(key, QueryDslOperators.EQUALS, QueryDslOperators.IN_FUNCTION, allowed));
+            } else if (isEmptyRange()) {
+                result = null;
+            } else if (Objects.nonNull(lower) && Objects.nonNull(upper) && lower.value().compareTo(upper.value()) == 0) {
+                // Only one value in range: >=10 and <=10 -> =10, it never matches if it isn't a field value (Example: 17.5 at an integer field)
+                result = excluded.containsKey(lower.value()) || !fieldValues.test(lower.filter().getValue())
+                        ? null
+                        : List.of(new QueryDslFilter(key, QueryDslOperators.EQUALS, lower.filter().getValue()));
+            } else {
+                excluded.keySet().removeIf(value -> !isInRange(value));
+                addIfNonNull(result, Objects.isNull(lower) ? null : lower.filter());
+                addIfNonNull(result, Objects.isNull(upper) ? null : upper.filter());
+                addIfNonNull(result, excluded.isEmpty() ? null : toFilter(key, QueryDslOperators.NOT_EQUALS, QueryDslOperators.NOT_IN_FUNCTION, excluded));
+
+                // Comparisons never match null values, so "nonNull" is only required alone
+                if (result.isEmpty() && Objects.nonNull(nonNull)) {
+                    result.add(nonNull);
+                }
+            }
+
+            return result;
+        }
+
+        private boolean add(final QueryDslFilter filter) {
+            boolean result = true;
+
+            switch (filter.getOperator()) {
+                case IS_NULL_FUNCTION:
+                    isNull = filter;
+                    break;
+                case NON_NULL_FUNCTION:
+                    nonNull = filter;
+                    break;
+                case EQUALS:
+                case EQUALS_FUNCTION:
+                case EQUALS_FUNCTION_EQ:
+                    result = retainAllowed(Collections.singletonList(filter.getValue()));
+                    break;
+                case IN_FUNCTION:
+                    result = retainAllowed(filter.getValues());
+                    break;
+                case NOT_EQUALS:
+                case NON_EQUALS_FUNCTION:
+                case NON_EQUALS_FUNCTION_NE:
+                    result = addExcluded(Collections.singletonList(filter.getValue()));
+                    break;
+                case NOT_IN_FUNCTION:
+                    result = addExcluded(filter.getValues());
+                    break;
+                case GREATER_THAN:
+                case GREATER_THAN_FUNCTION_GT:
+                    result = addLower(filter, false);
+                    break;
+                case GREATER_THAN_OR_EQUALS:
+                case GREATER_THAN_OR_EQUALS_FUNCTION_GTE:
+                    result = addLower(filter, true);
+                    break;
+                case LOWER_THAN:
+                case LOWER_THAN_FUNCTION_LT:
+                    result = addUpper(filter, false);
+                    break;
+                case LOWER_THAN_OR_EQUALS:
+                case LOWER_THAN_OR_EQUALS_FUNCTION_LTE:
+                    result = addUpper(filter, true);
+                    break;
+                default:
+                    // Text operators (starts, contains...) are kept as they are
+                    result = false;
+            }
+
+            return result;
+        }
+
+        private boolean retainAllowed(final List<Object> values) {
+            final Map<Comparable<Object>, Object> filterValues = toCanonicalValues(values);
+
+            if (Objects.nonNull(filterValues)) {
+                if (Objects.isNull(allowed)) {
+                    allowed = filterValues;
+                } else {
+                    allowed.keySet().retainAll(filterValues.keySet());
+                }
+            }
+
+            return Objects.nonNull(filterValues);
+        }
+
+        private boolean addExcluded(final List<Object> values) {
+            final Map<Comparable<Object>, Object> filterValues = toCanonicalValues(values);
+
+            if (Objects.nonNull(filterValues)) {
+                filterValues.forEach(excluded::putIfAbsent);
+            }
+
+            return Objects.nonNull(filterValues);
+        }
+
+        private boolean addLower(final QueryDslFilter filter, final boolean inclusive) {
+            final Bound bound = toBound(filter, inclusive);
+
+            // Highest value is the tightest, exclusive bound is tighter than inclusive with the same value
+            if (Objects.nonNull(bound) && (Objects.isNull(lower) || compare(bound, lower, true) > 0)) {
+                lower = bound;
+            }
+
+            return Objects.nonNull(bound);
+        }
+
+        private boolean addUpper(final QueryDslFilter filter, final boolean inclusive) {
+            final Bound bound = toBound(filter, inclusive);
+
+            // Lowest value is the tightest, exclusive bound is tighter than inclusive with the same value
+            if (Objects.nonNull(bound) && (Objects.isNull(upper) || compare(bound, upper, false) < 0)) {
+                upper = bound;
+            }
+
+            return Objects.nonNull(bound);
+        }
+
+        private Bound toBound(final QueryDslFilter filter, final boolean inclusive) {
+            final Comparable<Object> value = !ordered || Objects.isNull(filter.getValue()) ? null : canonicalizer.apply(filter.getValue());
+            return Objects.isNull(value) ? null : new Bound(value, inclusive, filter);
+        }
+
+        private Map<Comparable<Object>, Object> toCanonicalValues(final List<Object> values) {
+            Map<Comparable<Object>, Object> result = values.isEmpty() ? null : new LinkedHashMap<>();
+
+            for (int i = 0; Objects.nonNull(result) && i < values.size(); i++) {
+                final Comparable<Object> value = Objects.isNull(values.get(i)) ? null : canonicalizer.apply(values.get(i));
+
+                if (Objects.isNull(value)) {
+                    result = null;
+                } else {
+                    result.putIfAbsent(value, values.get(i));
+                }
+            }
+
+            return result;
+        }
+
+        private boolean isInRange(final Comparable<Object> value) {
+            final boolean aboveLower = Objects.isNull(lower)
+                    || (lower.inclusive() ? value.compareTo(lower.value()) >= 0 : value.compareTo(lower.value()) > 0);
+            final boolean belowUpper = Objects.isNull(upper)
+                    || (upper.inclusive() ? value.compareTo(upper.value()) <= 0 : value.compareTo(upper.value()) < 0);
+
+            return aboveLower && belowUpper;
+        }
+
+        private boolean isEmptyRange() {
+            boolean result = false;
+
+            if (Objects.nonNull(lower) && Objects.nonNull(upper)) {
+                final int comparison = lower.value().compareTo(upper.value());
+                result = comparison > 0 || (comparison == 0 && !(lower.inclusive() && upper.inclusive()));
+            }
+
+            return result;
+        }
+
+        private static int compare(final Bound bound, final Bound other, final boolean lowerBounds) {
+            int result = bound.value().compareTo(other.value());
+
+            if (result == 0 && bound.inclusive() != other.inclusive()) {
+                result = bound.inclusive() == lowerBounds ? -1 : 1;
+            }
+
+            return result;
+        }
+
+        private static QueryDslFilter toFilter(final String key, final QueryDslOperators singleValueOperator,
+                                               final QueryDslOperators multipleValuesOperator,
+                                               final Map<Comparable<Object>, Object> values) {
+            return values.size() == 1
+                    ? new QueryDslFilter(key, singleValueOperator, values.values().iterator().next())
+                    : new QueryDslFilter(key, multipleValuesOperator, new ArrayList<>(values.values()));
+        }
+
+        private static void addIfNonNull(final List<QueryDslFilter> filters, final QueryDslFilter filter) {
+            if (Objects.nonNull(filter)) {
+                filters.add(filter);
+            }
+        }
+    }
+}
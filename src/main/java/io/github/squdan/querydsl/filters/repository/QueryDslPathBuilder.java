@@ -0,0 +1,236 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.PathMetadata;
+import com.querydsl.core.types.dsl.BooleanPath;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DatePath;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.SimplePath;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.core.types.dsl.TimePath;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslEntityMetadata;
+import io.github.squdan.querydsl.filters.util.LruCache;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * PathBuilder keeping the paths created for each filter key, shared by all predicates of an entity.
+ * <p>
+ * Root paths of entities with QueryDsl Q-type (Example: QUserEntity.userEntity) return the static path fields of the
+ * Q-type when they have the requested path type (Example: QUserEntity.userEntity.savings), the rest of paths are
+ * created once by PathBuilder. So, after first filters, paths are a single map lookup without validations or
+ * allocations. Properties are received from clients and entities may reference each other, so only the most recently
+ * used paths are kept.
+ * <p>
+ * Instances are shared and safe to be used concurrently.
+ *
+ * @param <T>: entity type.
+ */
+public final class QueryDslPathBuilder<T> extends PathBuilder<T> {
+
+    // Configuration - Maximum number of kept root paths, paths and collection element paths
+    private static final int MAX_ROOTS = 256;
+    private static final int MAX_PATHS = 1024;
+    private static final int MAX_COLLECTION_ELEMENTS = 256;
+
+    // Shared root paths by entity type, most recently used
+    private static final LruCache<Class<?>, QueryDslPathBuilder<?>> ROOTS = new LruCache<>(MAX_ROOTS);
+
+    // Configuration - QueryDsl Q-type with the same variable, null if there is none
+    private final EntityPath<?> queryDslType;
+
+    // Created paths, most recently used
+    private final LruCache<PathKey, Path<?>> paths = new LruCache<>(MAX_PATHS);
+    private final LruCache<PathKey, QueryDslPathBuilder<?>> collectionElements = new LruCache<>(MAX_COLLECTION_ELEMENTS);
+
+    private QueryDslPathBuilder(final Class<T> entityType, final String variable) {
+        super(entityType, variable);
+        this.queryDslType = getQueryDslType(entityType, variable);
+    }
+
+    private QueryDslPathBuilder(final Class<T> entityType, final PathMetadata metadata) {
+        super(entityType, metadata);
+        this.queryDslType = null;
+    }
+
+    /**
+     * Returns the shared root path of received entity type, using the entity variable name.
+     *
+     * @param entityType: entity type class.
+     * @param <T>:        entity type.
+     * @return QueryDslPathBuilder.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> QueryDslPathBuilder<T> of(final Class<T> entityType) {
+        return (QueryDslPathBuilder<T>) ROOTS.computeIfAbsent(entityType,
+                type -> new QueryDslPathBuilder<>(entityType, QueryDslEntityMetadata.of(entityType).getVariableName()));
+    }
+
+    /**
+     * Returns the path to any element of received collection, used to filter by fields of collection elements.
+     *
+     * @param collectionPath: collection field name.
+     * @param elementType:    collection element type.
+     * @param <A>:            collection element type.
+     * @return QueryDslPathBuilder for any element of the collection.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> QueryDslPathBuilder<A> any(final String collectionPath, final Class<A> elementType) {
+        return (QueryDslPathBuilder<A>) collectionElements.computeIfAbsent(new PathKey(PathBuilder.class, collectionPath, elementType),
+                key -> new QueryDslPathBuilder<>(elementType, getCollection(collectionPath, elementType).any().getMetadata()));
+    }
+
+    /**
+     * Returns the path to the elements of received collection inside a subquery, named after this path and the
+     * collection (Example: userEntity.accounts -> userEntity_accounts).
+     *
+     * @param collectionPath: collection field name.
+     * @param elementType:    collection element type.
+     * @param <A>:            collection element type.
+     * @return QueryDslPathBuilder for the collection elements.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> QueryDslPathBuilder<A> alias(final String collectionPath, final Class<A> elementType) {
+        return (QueryDslPathBuilder<A>) collectionElements.computeIfAbsent(new PathKey(EntityPath.class, collectionPath, elementType),
+                key -> new QueryDslPathBuilder<>(elementType, getAliasName(this, collectionPath)));
+    }
+
+    /**
+     * Returns a new path to entities of this type inside a subquery joining received collection, named after the
+     * collection path (Example: userEntity.accounts -> userEntity_accounts_owner).
+     *
+     * @param collectionPath: collection field name.
+     * @return QueryDslPathBuilder for the entities owning the collection.
+     */
+    @SuppressWarnings("unchecked")
+    public QueryDslPathBuilder<T> owner(final String collectionPath) {
+        return (QueryDslPathBuilder<T>) collectionElements.computeIfAbsent(new PathKey(QueryDslPathBuilder.class, collectionPath, getType()),
+                key -> new QueryDslPathBuilder<>(getType(), getOwnerName(this, collectionPath)));
+    }
+
+    /**
+     * Returns the name of the path to the entities owning received collection inside a subquery.
+     *
+     * @param parent:         path owning the collection.
+     * @param collectionPath: collection field name.
+     * @return owner name.
+     */
+    public static String getOwnerName(final Path<?> parent, final String collectionPath) {
+        return getAliasName(parent, collectionPath) + "_owner";
+    }
+
+    /**
+     * Returns the name of the path to the elements of received collection inside a subquery.
+     *
+     * @param parent:         path owning the collection.
+     * @param collectionPath: collection field name.
+     * @return alias name.
+     */
+    public static String getAliasName(final Path<?> parent, final String collectionPath) {
+        return parent.getMetadata().getName() + "_" + collectionPath.replace('.', '_');
+    }
+
+    @Override
+    public BooleanPath getBoolean(final String property) {
+        return getPath(BooleanPath.class, property, Boolean.class, () -> super.getBoolean(property));
+    }
+
+    @Override
+    public <A extends Comparable<?>> ComparablePath<A> getComparable(final String property, final Class<A> type) {
+        return getPath(ComparablePath.class, property, type, () -> super.getComparable(property, type));
+    }
+
+    @Override
+    public <A extends Comparable<?>> DatePath<A> getDate(final String property, final Class<A> type) {
+        return getPath(DatePath.class, property, type, () -> super.getDate(property, type));
+    }
+
+    @Override
+    public <A extends Comparable<?>> DateTimePath<A> getDateTime(final String property, final Class<A> type) {
+        return getPath(DateTimePath.class, property, type, () -> super.getDateTime(property, type));
+    }
+
+    @Override
+    public <A extends Enum<A>> EnumPath<A> getEnum(final String property, final Class<A> type) {
+        return getPath(EnumPath.class, property, type, () -> super.getEnum(property, type));
+    }
+
+    @Override
+    public <A extends Number & Comparable<?>> NumberPath<A> getNumber(final String property, final Class<A> type) {
+        return getPath(NumberPath.class, property, type, () -> super.getNumber(property, type));
+    }
+
+    @Override
+    public <A> SimplePath<A> getSimple(final String property, final Class<A> type) {
+        return getPath(SimplePath.class, property, type, () -> super.getSimple(property, type));
+    }
+
+    @Override
+    public StringPath getString(final String property) {
+        return getPath(StringPath.class, property, String.class, () -> super.getString(property));
+    }
+
+    @Override
+    public <A extends Comparable<?>> TimePath<A> getTime(final String property, final Class<A> type) {
+        return getPath(TimePath.class, property, type, () -> super.getTime(property, type));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <P extends Path<?>> P getPath(final Class<? super P> pathType, final String property, final Class<?> type,
+                                          final Supplier<P> pathSupplier) {
+        return (P) paths.computeIfAbsent(new PathKey((Class) pathType, property, type), key -> {
+            final Path<?> queryDslTypePath = getQueryDslTypePath(property);
+
+            // Q-type paths are used only if they are exactly the requested path
+            return Objects.nonNull(queryDslTypePath) && queryDslTypePath.getClass() == pathType && queryDslTypePath.getType() == type
+                    ? queryDslTypePath
+                    : pathSupplier.get();
+        });
+    }
+
+    private Path<?> getQueryDslTypePath(final String property) {
+        Object result = queryDslType;
+
+        // Dotted properties are resolved through Q-type fields (Example: id.bank -> QUserEntity.userEntity.id.bank)
+        for (String field : property.split("\\.")) {
+            result = Objects.isNull(result) ? null : getFieldValue(result, field);
+        }
+
+        return result instanceof Path<?> path ? path : null;
+    }
+
+    private static Object getFieldValue(final Object source, final String field) {
+        Object result;
+
+        try {
+            result = source.getClass().getField(field).get(source);
+        } catch (final ReflectiveOperationException e) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private static EntityPath<?> getQueryDslType(final Class<?> entityType, final String variable) {
+        EntityPath<?> result;
+
+        try {
+            result = SimpleEntityPathResolver.INSTANCE.createPath(entityType);
+        } catch (final IllegalArgumentException e) {
+            // Entity without Q-type
+            result = null;
+        }
+
+        return Objects.nonNull(result) && Objects.equals(variable, result.getMetadata().getName()) ? result : null;
+    }
+
+    private record PathKey(Class<?> pathType, String property, Class<?> type) {
+    }
+}
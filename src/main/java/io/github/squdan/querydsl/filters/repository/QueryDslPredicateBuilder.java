@@ -3,20 +3,16 @@ package io.github.squdan.querydsl.filters.repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
-import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslFilterExpression;
 import io.github.squdan.querydsl.filters.QueryDslOperators;
 import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.validation.annotation.Validated;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * This class will process all QueryDslFilters configured to generate a BooleanExpression predicated that will be used
@@ -24,17 +20,24 @@ import java.util.stream.Collectors;
  *
  * @param <T>: entity type.
  */
-@Slf4j
 @Validated
 @RequiredArgsConstructor
 public class QueryDslPredicateBuilder<T> {
 
-    // Private configuration
-    private final QueryDslPredicateFactory queryDslPredicateFactory = new QueryDslPredicateFactory();
+    /**
+     * Predicate built when configured filters or expressions can never match, repositories return empty results without querying
+     * the database when they receive it.
+     */
+    public static final BooleanExpression NONE = Expressions.asBoolean(false).isTrue();
 
     // Required configuration
     private final Class<T> entityType;
+
+    // Optional configuration
+    private QueryDslTypeManager customTypesManager;
+    private QueryDslCollectionsConfiguration collectionsConfiguration;
     private final List<QueryDslFilter> queryDslFilters = new ArrayList<>();
+    private final List<QueryDslFilterExpression> queryDslExpressions = new ArrayList<>();
 
     /**
      * Some entities may own custom field types like Enums. Using QueryDslCustomTypesManager you can implement your own
@@ -44,7 +47,18 @@ public class QueryDslPredicateBuilder<T> {
      * @return QueryDslPredicateBuilder.
      */
     public QueryDslPredicateBuilder<T> addCustomTypeManager(@NotNull final QueryDslTypeManager customTypesManager) {
-        queryDslPredicateFactory.addCustomTypeManager(customTypesManager);
+        this.customTypesManager = customTypesManager;
+        return this;
+    }
+
+    /**
+     * Configures how filters over collections are applied (Example: each filter matching a different element).
+     *
+     * @param collectionsConfiguration: configuration of filters over collections.
+     * @return QueryDslPredicateBuilder.
+     */
+    public QueryDslPredicateBuilder<T> withCollectionsConfiguration(@NotNull final QueryDslCollectionsConfiguration collectionsConfiguration) {
+        this.collectionsConfiguration = collectionsConfiguration;
         return this;
     }
 
@@ -96,35 +110,29 @@ public class QueryDslPredicateBuilder<T> {
         return this;
     }
 
+    /**
+     * Adds new filter expression to the QueryDslPredicateBuilder, it must match along with the rest of filters.
+     *
+     * @param expression: QueryDslFilterExpression to add.
+     * @return QueryDslPredicateBuilder.
+     */
+    public QueryDslPredicateBuilder<T> with(@NotNull final QueryDslFilterExpression expression) {
+        queryDslExpressions.add(expression);
+        return this;
+    }
+
     /**
      * Process configured filters and generate a BooleanExpression.
+     * <p>
+     * Configured filters and expressions are simplified before generating the predicate, if they can never match
+     * {@link #NONE} is returned.
+     * <p>
+     * Filters are compiled by the shared {@link QueryDslPredicateCompiler} of the configured entity type, custom types
+     * manager and collections configuration.
      *
      * @return BooleanExpression.
      */
     public BooleanExpression build() {
-        BooleanExpression result = null;
-
-        if (CollectionUtils.isNotEmpty(queryDslFilters)) {
-            // Process QueryDsl filters to convert into Predicates
-            final List<BooleanExpression> predicates = queryDslFilters.stream()
-                    .filter(Objects::nonNull)
-                    .map(filter -> queryDslPredicateFactory.getPredicate(entityType, filter))
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-
-            if (CollectionUtils.isNotEmpty(predicates)) {
-                result = Expressions.asBoolean(true).isTrue();
-
-                for (BooleanExpression predicate : predicates) {
-                    result = result.and(predicate);
-                }
-            } else {
-                final String errorMsg = "Error processing QueryDslFilters.";
-                log.error(errorMsg);
-                throw new QueryDslFiltersException(errorMsg);
-            }
-        }
-
-        return result;
+        return QueryDslPredicateCompiler.of(entityType, customTypesManager, collectionsConfiguration).compile(queryDslFilters, queryDslExpressions);
     }
 }
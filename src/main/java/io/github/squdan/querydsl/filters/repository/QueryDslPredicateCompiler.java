@@ -0,0 +1,276 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import io.github.squdan.querydsl.filters.QueryDslConversionContext;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFilterExpression;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
+import io.github.squdan.querydsl.filters.util.LruCache;
+import io.github.squdan.querydsl.filters.util.PredicateUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Compiles QueryDslFilters and QueryDslFilterExpressions of an entity into BooleanExpression predicates.
+ * <p>
+ * Unlike {@link QueryDslPredicateBuilder}, it keeps no filters and its configuration can't change once created, so the
+ * same instance is shared by all threads using a repository. Type managers selected for each field are kept between
+ * calls, so each request only pays for compiling its own filters.
+ * <p>
+ * {@link #of(Class, QueryDslTypeManager, QueryDslCollectionsConfiguration)} returns the shared compiler of a
+ * configuration, used by repositories and {@link QueryDslPredicateBuilder}. Only the most recently used
+ * configurations are kept, so custom type managers must be kept by repositories (Example: a constant) instead of
+ * created for each call.
+ * <p>
+ * Optionally, predicates may be planned by filters shape enabling the plan cache with method:
+ * QueryDslPredicateCompiler.enablePlanCache(maximumSize). Filters with the same entity type, configuration, keys,
+ * operators and kind of values (Example: role=ADMIN and role=USER) reuse the predicate generated for the first of them,
+ * binding their converted values instead of generating it again, even if they are compiled by different compilers with
+ * the same configuration. Predicates with values calculated by type managers from filter values are
+ * always generated again. Type managers must only generate different predicates for the same key and operator if
+ * values have a different lexical kind (Example: date 2020-06-14 and date time 2020-06-14T10:00:00Z).
+ *
+ * @param <T>: entity type.
+ */
+@Slf4j
+public final class QueryDslPredicateCompiler<T> {
+
+    // Configuration - Shared compilers by configuration
+    private static final int MAX_COMPILERS = 256;
+    private static final LruCache<CompilerKey, QueryDslPredicateCompiler<?>> COMPILERS = new LruCache<>(MAX_COMPILERS);
+
+    // Optional configuration - Cache of predicate plans by compiler configuration and filters shape
+    private static volatile LruCache<PlanKey, QueryDslPredicatePlan> planCache;
+
+    // Configuration
+    @Getter
+    private final Class<T> entityType;
+    private final QueryDslPredicateFactory queryDslPredicateFactory;
+    private final QueryDslFiltersOptimizer<T> queryDslFiltersOptimizer;
+
+    /**
+     * Constructor from entity type and optional custom type manager.
+     *
+     * @param entityType:         entity type class.
+     * @param customTypesManager: implementation of {@link QueryDslTypeManager} to manage filters of custom types
+     *                            (optional).
+     */
+    public QueryDslPredicateCompiler(@NotNull final Class<T> entityType, final QueryDslTypeManager customTypesManager) {
+        this(entityType, customTypesManager, null);
+    }
+
+    /**
+     * Constructor from entity type, optional custom type manager and optional collections configuration.
+     *
+     * @param entityType:               entity type class.
+     * @param customTypesManager:       implementation of {@link QueryDslTypeManager} to manage filters of custom types
+     *                                  (optional).
+     * @param collectionsConfiguration: configuration of filters over collections (optional, default:
+     *                                  {@link QueryDslCollectionsConfiguration#DEFAULT}).
+     */
+    public QueryDslPredicateCompiler(@NotNull final Class<T> entityType, final QueryDslTypeManager customTypesManager,
+                                     final QueryDslCollectionsConfiguration collectionsConfiguration) {
+        this.entityType = entityType;
+        this.queryDslPredicateFactory = new QueryDslPredicateFactory(customTypesManager, collectionsConfiguration);
+        this.queryDslFiltersOptimizer = new QueryDslFiltersOptimizer<>(entityType, queryDslPredicateFactory);
+    }
+
+    /**
+     * Returns the shared compiler of received configuration, created the first time it is requested.
+     *
+     * @param entityType:               entity type class.
+     * @param customTypesManager:       implementation of {@link QueryDslTypeManager} to manage filters of custom types
+     *                                  (optional).
+     * @param collectionsConfiguration: configuration of filters over collections (optional, default:
+     *                                  {@link QueryDslCollectionsConfiguration#DEFAULT}).
+     * @param <T>:                      entity type.
+     * @return QueryDslPredicateCompiler.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> QueryDslPredicateCompiler<T> of(@NotNull final Class<T> entityType, final QueryDslTypeManager customTypesManager,
+                                                      final QueryDslCollectionsConfiguration collectionsConfiguration) {
+        final QueryDslCollectionsConfiguration configuration = Objects.requireNonNullElse(collectionsConfiguration, QueryDslCollectionsConfiguration.DEFAULT);
+        return (QueryDslPredicateCompiler<T>) COMPILERS.computeIfAbsent(new CompilerKey(entityType, customTypesManager, configuration),
+                key -> new QueryDslPredicateCompiler<>(entityType, customTypesManager, configuration));
+    }
+
+    /**
+     * Enables a cache of predicate plans by filters shape, so predicates of filters with the same shape are generated
+     * binding values. Previous cache, if any, is discarded.
+     *
+     * @param maximumSize: maximum number of cached plans, least recently used plans are evicted when exceeded.
+     */
+    public static void enablePlanCache(final int maximumSize) {
+        planCache = new LruCache<>(maximumSize);
+    }
+
+    /**
+     * Disables and discards the cache of predicate plans.
+     */
+    public static void disablePlanCache() {
+        planCache = null;
+    }
+
+    /**
+     * Returns statistics of the cache of predicate plans (hits, misses, evictions...).
+     *
+     * @return cache statistics if cache is enabled.
+     */
+    public static Optional<LruCache.Statistics> getPlanCacheStatistics() {
+        return Optional.ofNullable(planCache).map(LruCache::getStatistics);
+    }
+
+    /**
+     * Process received filters and generate a BooleanExpression matching all of them.
+     * <p>
+     * Filters are simplified before generating the predicate, if they can never match together
+     * {@link QueryDslPredicateBuilder#NONE} is returned.
+     *
+     * @param filters: QueryDslFilters to apply.
+     * @return BooleanExpression, null if there are no filters.
+     */
+    public BooleanExpression compile(final List<QueryDslFilter> filters) {
+        return compile(filters, List.of());
+    }
+
+    /**
+     * Process received filter expression and generate a BooleanExpression.
+     *
+     * @param expression: QueryDslFilterExpression to apply.
+     * @return BooleanExpression, {@link QueryDslPredicateBuilder#NONE} if expression can never match or null if it
+     * always matches.
+     */
+    public BooleanExpression compile(final QueryDslFilterExpression expression) {
+        return compile(List.of(), Objects.isNull(expression) ? List.of() : List.of(expression));
+    }
+
+    /**
+     * Process received filters and filter expressions and generate a BooleanExpression matching all of them.
+     * <p>
+     * Filters and expressions are simplified before generating the predicate, if they can never match
+     * {@link QueryDslPredicateBuilder#NONE} is returned.
+     *
+     * @param filters:     QueryDslFilters to apply.
+     * @param expressions: QueryDslFilterExpressions to apply.
+     * @return BooleanExpression, null if there is nothing to apply.
+     */
+    public BooleanExpression compile(final List<QueryDslFilter> filters, final List<QueryDslFilterExpression> expressions) {
+        BooleanExpression result = null;
+
+        if (CollectionUtils.isNotEmpty(filters)) {
+            // Merge filters of the same key, so repeated or redundant filters don't reach the database
+            final List<QueryDslFilter> optimizedFilters = queryDslFiltersOptimizer
+                    .optimize(filters.stream().filter(Objects::nonNull).toList())
+                    .orElse(null);
+            final LruCache<PlanKey, QueryDslPredicatePlan> currentPlanCache = planCache;
+
+            if (Objects.isNull(optimizedFilters)) {
+                result = QueryDslPredicateBuilder.NONE;
+            } else if (Objects.isNull(currentPlanCache)) {
+                result = conjunction(getPredicates(new QueryDslConversionContext().attach(optimizedFilters)));
+            } else {
+                result = compileWithPlan(currentPlanCache, optimizedFilters);
+            }
+        }
+
+        if (CollectionUtils.isNotEmpty(expressions) && result != QueryDslPredicateBuilder.NONE) {
+            // Remove constant branches, so only filters that may change the result reach the database
+            final QueryDslFilterExpression expression = QueryDslFilterExpression.and(expressions).fold();
+
+            if (expression instanceof QueryDslFilterExpression.Constant constant) {
+                if (!constant.value()) {
+                    result = QueryDslPredicateBuilder.NONE;
+                }
+            } else {
+                final BooleanExpression predicate = compileExpression(expression);
+                result = PredicateUtils.allOf(result, predicate);
+            }
+        }
+
+        return result;
+    }
+
+    private BooleanExpression compileWithPlan(final LruCache<PlanKey, QueryDslPredicatePlan> currentPlanCache,
+                                              final List<QueryDslFilter> filters) {
+        BooleanExpression result = null;
+
+        final PlanKey planKey = new PlanKey(entityType, queryDslPredicateFactory.getCustomTypesManager(),
+                queryDslPredicateFactory.getCollectionsConfiguration(), QueryDslPredicatePlan.getShape(filters));
+        final QueryDslPredicatePlan plan = currentPlanCache.get(planKey);
+
+        if (Objects.nonNull(plan) && plan.isReusable()) {
+            result = plan.bind(filters);
+        }
+
+        // Filters without plan or whose values can't be bound are processed by type managers
+        if (Objects.isNull(result)) {
+            final QueryDslConversionContext conversionContext = new QueryDslConversionContext();
+            final List<BooleanExpression> predicates = getPredicates(conversionContext.attach(filters));
+            result = conjunction(predicates);
+
+            if (Objects.isNull(plan)) {
+                currentPlanCache.put(planKey, QueryDslPredicatePlan.of(filters, conversionContext, predicates, this::conjunction));
+            }
+        }
+
+        return result;
+    }
+
+    private List<BooleanExpression> getPredicates(final List<QueryDslFilter> filters) {
+        // Process QueryDsl filters to convert into Predicates, null predicates are kept to match their filters
+        return queryDslPredicateFactory.getPredicates(entityType, QueryDslPathBuilder.of(entityType), filters);
+    }
+
+    private BooleanExpression conjunction(final List<BooleanExpression> predicates) {
+        final BooleanExpression result = PredicateUtils.allOf(predicates);
+
+        if (Objects.isNull(result)) {
+            final String errorMsg = "Error processing QueryDslFilters.";
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return result;
+    }
+
+    private BooleanExpression compileExpression(final QueryDslFilterExpression expression) {
+        BooleanExpression result;
+
+        if (expression instanceof QueryDslFilterExpression.Filter filter) {
+            result = queryDslPredicateFactory.getPredicate(entityType, filter.filter());
+
+            if (Objects.isNull(result)) {
+                final String errorMsg = String.format("Error processing QueryDslFilter '%s'.", filter.filter());
+                log.error(errorMsg);
+                throw new QueryDslFiltersException(errorMsg);
+            }
+        } else if (expression instanceof QueryDslFilterExpression.Not not) {
+            result = compileExpression(not.operand()).not();
+        } else if (expression instanceof QueryDslFilterExpression.And and) {
+            result = PredicateUtils.allOf(and.operands().stream().map(this::compileExpression).toList());
+        } else if (expression instanceof QueryDslFilterExpression.Or or) {
+            result = PredicateUtils.anyOf(or.operands().stream().map(this::compileExpression).toList());
+        } else {
+            // Constants are removed when expression is folded
+            result = Expressions.asBoolean(((QueryDslFilterExpression.Constant) expression).value()).isTrue();
+        }
+
+        return result;
+    }
+
+    private record CompilerKey(Class<?> entityType, QueryDslTypeManager customTypesManager,
+                               QueryDslCollectionsConfiguration collectionsConfiguration) {
+    }
+
+    private record PlanKey(Class<?> entityType, QueryDslTypeManager customTypesManager,
+                           QueryDslCollectionsConfiguration collectionsConfiguration, Object shape) {
+    }
+}
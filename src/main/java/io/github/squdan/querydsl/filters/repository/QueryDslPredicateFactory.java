@@ -4,8 +4,13 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.repository.type.*;
+import io.github.squdan.querydsl.filters.util.LruCache;
 import jakarta.validation.constraints.NotNull;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -16,33 +21,131 @@ import java.util.Objects;
  * - Dates: Instant, LocalDate, LocalDateTime, Date, etc...
  * - Numbers: Integer, BigDecimal, Double, etc...
  * - UUID
+ * - Enums: by constant name.
  * - Strings
  * <p>
  * If you need to support extra types in your repository, you implement your own {@link QueryDslTypeManager}
- * and configure using method "addCustomTypeManager".
+ * and configure it at the constructor. To configure many of them, register each one by type into a
+ * {@link QueryDslTypeManagerRegistry} and configure the registry.
+ * <p>
+ * Configuration can't change once created, so factories can be shared between threads.
+ * <p>
+ * Type manager selected for each entity type and key is kept, so next filters over the same field don't check again
+ * which type manager supports them. Keys are received from clients and entities may reference each other, so only the
+ * most recently used selections are kept. Type managers must decide if they support a filter using only its entity type
+ * and key.
  */
 public final class QueryDslPredicateFactory {
 
     // Configuration - Type Managers
-    private QueryDslCollectionTypeManager QUERY_DSL_COLLECTION_TYPE_MANAGER;
+    private final QueryDslCollectionTypeManager queryDslCollectionTypeManager = new QueryDslCollectionTypeManager(this);
     private static final QueryDslDateTypeManager QUERY_DSL_DATE_TYPE_MANAGER = new QueryDslDateTypeManager();
     private static final QueryDslNumberTypeManager QUERY_DSL_NUMBER_TYPE_MANAGER = new QueryDslNumberTypeManager();
     private static final QueryDslBooleanTypeManager QUERY_DSL_BOOLEAN_TYPE_MANAGER = new QueryDslBooleanTypeManager();
     private static final QueryDslUuidTypeManager QUERY_DSL_UUID_TYPE_MANAGER = new QueryDslUuidTypeManager();
+    private static final QueryDslEnumTypeManager QUERY_DSL_ENUM_TYPE_MANAGER = new QueryDslEnumTypeManager();
     private static final QueryDslStringTypeManager QUERY_DSL_STRING_TYPE_MANAGER = new QueryDslStringTypeManager();
 
     // Optional configuration
-    private QueryDslTypeManager customTypesManager;
+    private final QueryDslTypeManager customTypesManager;
+    private final QueryDslCollectionsConfiguration collectionsConfiguration;
+
+    // Configuration - Type manager selected for each entity type and key, most recently used
+    private static final int MAX_DISPATCH_KEYS = 1024;
+    private final LruCache<DispatchKey, QueryDslTypeManager> dispatchTable = new LruCache<>(MAX_DISPATCH_KEYS);
 
     /**
-     * Some entities may own custom field types like Enums.
-     * <p>
-     * Using {@link QueryDslTypeManager} you can implement your own types management.
+     * Constructor without custom type manager.
+     */
+    public QueryDslPredicateFactory() {
+        this(null);
+    }
+
+    /**
+     * Constructor with custom type manager.
      *
-     * @param customTypesManager: implementation of {@link QueryDslTypeManager} to manage filters of custom types.
+     * @param customTypesManager: implementation of {@link QueryDslTypeManager} to manage filters of custom types
+     *                            (optional).
      */
-    public void addCustomTypeManager(@NotNull final QueryDslTypeManager customTypesManager) {
+    public QueryDslPredicateFactory(final QueryDslTypeManager customTypesManager) {
+        this(customTypesManager, null);
+    }
+
+    /**
+     * Constructor with custom type manager and collections configuration.
+     *
+     * @param customTypesManager:       implementation of {@link QueryDslTypeManager} to manage filters of custom types
+     *                                  (optional).
+     * @param collectionsConfiguration: configuration of filters over collections (optional, default:
+     *                                  {@link QueryDslCollectionsConfiguration#DEFAULT}).
+     */
+    public QueryDslPredicateFactory(final QueryDslTypeManager customTypesManager,
+                                    final QueryDslCollectionsConfiguration collectionsConfiguration) {
         this.customTypesManager = customTypesManager;
+        this.collectionsConfiguration = Objects.requireNonNullElse(collectionsConfiguration, QueryDslCollectionsConfiguration.DEFAULT);
+    }
+
+    /**
+     * Returns the implementation of {@link QueryDslTypeManager} managing filters of custom types.
+     *
+     * @return QueryDslTypeManager, null if there is none.
+     */
+    QueryDslTypeManager getCustomTypesManager() {
+        return customTypesManager;
+    }
+
+    /**
+     * Returns how filters over collections are applied.
+     *
+     * @return QueryDslCollectionsConfiguration.
+     */
+    public QueryDslCollectionsConfiguration getCollectionsConfiguration() {
+        return collectionsConfiguration;
+    }
+
+    /**
+     * Generate BooleanExpression predicates for entity with received filters, all of them must match.
+     * <p>
+     * Unless collections are configured with independent filters, filters over the same collection are applied together
+     * in a single predicate, returned at the position of the first of them, and the rest of positions are null.
+     *
+     * @param entityType: entity type class.
+     * @param entityPath: QueryDsl path, used for nested collections into {@link QueryDslCollectionTypeManager}.
+     * @param filters:    filters to apply.
+     * @param <T>:        entity type.
+     * @return List of BooleanExpression with one position per filter.
+     */
+    public <T> List<BooleanExpression> getPredicates(final Class<T> entityType, final PathBuilder<T> entityPath,
+                                                     final List<QueryDslFilter> filters) {
+        final List<BooleanExpression> result = new ArrayList<>(filters.size());
+        final boolean groupCollections = !collectionsConfiguration.isIndependentFilters() && filters.size() > 1;
+        Map<String, CollectionFilters> collectionFilters = null;
+
+        for (QueryDslFilter filter : filters) {
+            final QueryDslTypeManager typeManager = getSelectedTypeManager(entityType, entityPath, filter);
+            final String collectionPath = groupCollections && typeManager == queryDslCollectionTypeManager
+                    ? queryDslCollectionTypeManager.getCollectionPath(entityType, filter.getKey())
+                    : null;
+
+            if (Objects.isNull(collectionPath)) {
+                result.add(typeManager.manage(entityType, entityPath, filter));
+            } else {
+                // Filters over the same collection are processed together once all of them are found
+                final int index = result.size();
+                collectionFilters = Objects.isNull(collectionFilters) ? new LinkedHashMap<>() : collectionFilters;
+                collectionFilters.computeIfAbsent(collectionPath, key -> new CollectionFilters(index, new ArrayList<>())).filters().add(filter);
+                result.add(null);
+            }
+        }
+
+        if (Objects.nonNull(collectionFilters)) {
+            for (CollectionFilters sameCollectionFilters : collectionFilters.values()) {
+                result.set(sameCollectionFilters.index(),
+                        queryDslCollectionTypeManager.manage(entityType, entityPath, sameCollectionFilters.filters()));
+            }
+        }
+
+        return result;
     }
 
     /**
@@ -54,7 +157,7 @@ public final class QueryDslPredicateFactory {
      * @return BooleanExpression from received filter.
      */
     public <T> BooleanExpression getPredicate(final Class<T> entityType, final QueryDslFilter filter) {
-        final PathBuilder<T> entityPath = new PathBuilder<T>(entityType, getEntityName(entityType));
+        final PathBuilder<T> entityPath = QueryDslPathBuilder.of(entityType);
         return getPredicate(entityType, entityPath, filter);
     }
 
@@ -68,63 +171,76 @@ public final class QueryDslPredicateFactory {
      * @return BooleanExpression from received filter.
      */
     public <T> BooleanExpression getPredicate(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
-        BooleanExpression result = null;
+        return getSelectedTypeManager(entityType, entityPath, filter).manage(entityType, entityPath, filter);
+    }
 
-        // Initialize lazy parameters
-        lazyInitializations();
+    /**
+     * Returns the type manager that processes filters of received entity type and filter key.
+     *
+     * @param entityType: entity type class.
+     * @param filter:     filter to apply.
+     * @param <T>:        entity type.
+     * @return QueryDslTypeManager.
+     */
+    <T> QueryDslTypeManager getSelectedTypeManager(final Class<T> entityType, final QueryDslFilter filter) {
+        return getSelectedTypeManager(entityType, QueryDslPathBuilder.of(entityType), filter);
+    }
+
+    private <T> QueryDslTypeManager getSelectedTypeManager(final Class<T> entityType, final PathBuilder<T> entityPath,
+                                                           final QueryDslFilter filter) {
+        // Not kept if selection fails (Example: unknown field)
+        return dispatchTable.computeIfAbsent(new DispatchKey(entityType, filter.getKey()), key -> getTypeManager(entityType, entityPath, filter));
+    }
+
+    private <T> QueryDslTypeManager getTypeManager(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+        QueryDslTypeManager result;
 
         // Manage Collections
-        if (QUERY_DSL_COLLECTION_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
-            result = QUERY_DSL_COLLECTION_TYPE_MANAGER.manage(entityType, entityPath, filter);
+        if (queryDslCollectionTypeManager.isSupported(entityType, entityPath, filter)) {
+            result = queryDslCollectionTypeManager;
         }
 
         // Manage custom types configured by App
         else if (Objects.nonNull(customTypesManager) && customTypesManager.isSupported(entityType, entityPath, filter)) {
-            result = customTypesManager.manage(entityType, entityPath, filter);
+            result = customTypesManager;
         }
 
         // Manage Dates
         else if (QUERY_DSL_DATE_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
-            result = QUERY_DSL_DATE_TYPE_MANAGER.manage(entityType, entityPath, filter);
+            result = QUERY_DSL_DATE_TYPE_MANAGER;
         }
 
         // Manage Numbers
         else if (QUERY_DSL_NUMBER_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
-            result = QUERY_DSL_NUMBER_TYPE_MANAGER.manage(entityType, entityPath, filter);
+            result = QUERY_DSL_NUMBER_TYPE_MANAGER;
         }
 
         // Manage Booleans
         else if (QUERY_DSL_BOOLEAN_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
-            result = QUERY_DSL_BOOLEAN_TYPE_MANAGER.manage(entityType, entityPath, filter);
+            result = QUERY_DSL_BOOLEAN_TYPE_MANAGER;
         }
 
         // Manage UUIDs
         else if (QUERY_DSL_UUID_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
-            result = QUERY_DSL_UUID_TYPE_MANAGER.manage(entityType, entityPath, filter);
+            result = QUERY_DSL_UUID_TYPE_MANAGER;
+        }
+
+        // Manage Enums
+        else if (QUERY_DSL_ENUM_TYPE_MANAGER.isSupported(entityType, entityPath, filter)) {
+            result = QUERY_DSL_ENUM_TYPE_MANAGER;
         }
 
         // Default: Manage as String
         else {
-            result = QUERY_DSL_STRING_TYPE_MANAGER.manage(entityType, entityPath, filter);
+            result = QUERY_DSL_STRING_TYPE_MANAGER;
         }
 
         return result;
     }
 
-    private void lazyInitializations() {
-        if (Objects.isNull(QUERY_DSL_COLLECTION_TYPE_MANAGER)) {
-            QUERY_DSL_COLLECTION_TYPE_MANAGER = new QueryDslCollectionTypeManager(this);
-        }
+    private record DispatchKey(Class<?> entityType, String key) {
     }
 
-    private <T> String getEntityName(final Class<T> entityType) {
-        String result = entityType.getSimpleName();
-
-        // Parse first letter to lower case
-        char[] c = result.toCharArray();
-        c[0] = Character.toLowerCase(c[0]);
-        result = new String(c);
-
-        return result;
+    private record CollectionFilters(int index, List<QueryDslFilter> filters) {
     }
 }
@@ -0,0 +1,329 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.support.ReplaceVisitor;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ParamExpression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
+import io.github.squdan.querydsl.filters.QueryDslConversionContext;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Predicate generated for a filters shape (same keys, operators and kind of values), with parameters instead of
+ * filter values, used by {@link QueryDslPredicateCompiler} to generate predicates of next filters with the same shape
+ * binding their values.
+ * <p>
+ * Plans are only created when all values of the predicate are filter values converted by type managers and all filter
+ * values are in the predicate, so predicates with values calculated from filter values or whose structure depends on
+ * filter values (Example: a bound out of the field type generating "is not null") are always generated by type
+ * managers. Each parameter keeps the converter used by the type manager for its value, so values are bound converted
+ * to the same type even if type managers used different converters for the same filter.
+ */
+final class QueryDslPredicatePlan {
+
+    /**
+     * Plan of shapes whose predicates can't be generated binding values.
+     */
+    static final QueryDslPredicatePlan NOT_REUSABLE = new QueryDslPredicatePlan(null, List.of());
+
+    // Configuration
+    private final BooleanExpression template;
+    private final List<Slot> slots;
+
+    private QueryDslPredicatePlan(final BooleanExpression template, final List<Slot> slots) {
+        this.template = template;
+        this.slots = slots;
+    }
+
+    /**
+     * Returns the shape of received filters: keys, operators and lexical kind of values (Example: "2020-06-14" and
+     * "2021-01-01" have the same kind, but "2020-06-14T10:00:00Z" doesn't).
+     *
+     * @param filters: filters to process.
+     * @return shape to compare filters.
+     */
+    static Object getShape(final List<QueryDslFilter> filters) {
+        final List<Object> result = new ArrayList<>(filters.size() + 1);
+
+        // Chunks of in/notIn values depend on configured chunk size
+        result.add(InClauseUtils.getChunkSize());
+
+        for (QueryDslFilter filter : filters) {
+            final Object valueShape = filter.getOperator().hasMultipleValues()
+                    ? getValuesShape(filter.getValues())
+                    : getValueShape(filter.getValue());
+
+            result.add(new FilterShape(filter.getKey(), filter.getOperator(), valueShape));
+        }
+
+        return result;
+    }
+
+    /**
+     * Generates the plan of received filters from their predicates.
+     *
+     * @param filters:           filters already processed by type managers.
+     * @param conversionContext: context with the values converted by type managers.
+     * @param predicates:        predicate of each filter.
+     * @param conjunction:       function joining the predicates.
+     * @return QueryDslPredicatePlan, {@link #NOT_REUSABLE} if predicates have values not converted from filters or
+     * filters have values not found at predicates.
+     */
+    static QueryDslPredicatePlan of(final List<QueryDslFilter> filters, final QueryDslConversionContext conversionContext,
+                                    final List<BooleanExpression> predicates,
+                                    final Function<List<BooleanExpression>, BooleanExpression> conjunction) {
+        QueryDslPredicatePlan result = NOT_REUSABLE;
+
+        final List<Slot> slots = new ArrayList<>();
+        final List<BooleanExpression> templates = new ArrayList<>(predicates.size());
+        boolean reusable = predicates.size() == filters.size();
+
+        for (int i = 0; reusable && i < filters.size(); i++) {
+            final QueryDslFilter filter = filters.get(i);
+            final List<QueryDslTypedValue<?>> typedValues = conversionContext.getTypedValues(filter);
+            reusable = Objects.nonNull(predicates.get(i)) && typedValues.stream().allMatch(typedValue -> isDistinct(typedValue.getValues()));
+
+            if (reusable) {
+                final int filterSlotsStart = slots.size();
+                final TemplateVisitor visitor = new TemplateVisitor(i, typedValues, slots);
+                templates.add(toBooleanExpression(predicates.get(i).accept(visitor, null)));
+
+                // Every filter value must be bound, otherwise predicate depends on values that can't be replaced
+                reusable = visitor.reusable && isBound(filter, slots.subList(filterSlotsStart, slots.size()));
+            }
+        }
+
+        if (reusable) {
+            result = new QueryDslPredicatePlan(conjunction.apply(templates), List.copyOf(slots));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns true if predicates of filters with this shape can be generated binding values.
+     *
+     * @return true if plan is reusable.
+     */
+    boolean isReusable() {
+        return Objects.nonNull(template);
+    }
+
+    /**
+     * Generates the predicate of received filters binding their values into the template.
+     *
+     * @param filters: filters with the shape of this plan.
+     * @return BooleanExpression, null if values can't be bound (Example: repeated values in a "in" filter, values out
+     * of the range of the type used by the plan).
+     */
+    BooleanExpression bind(final List<QueryDslFilter> filters) {
+        // Convert values with the same converters used by type managers, once for each filter and converter
+        final List<QueryDslFilter> attachedFilters = new QueryDslConversionContext().attach(filters);
+        final Object[] values = new Object[slots.size()];
+        boolean bindable = true;
+
+        for (int i = 0; bindable && i < slots.size(); i++) {
+            final Slot slot = slots.get(i);
+
+            // Type managers may accept values the converter of the plan can't (Example: bounds out of an integer range)
+            final QueryDslTypedValue<?> typedValue = attachedFilters.get(slot.filter()).tryGetTypedValue(slot.converter()).orElse(null);
+            values[i] = Objects.nonNull(typedValue) && isDistinct(typedValue.getValues()) ? slot.getValue(typedValue) : null;
+
+            bindable = Objects.nonNull(values[i]);
+        }
+
+        return bindable ? toBooleanExpression(template.accept(BindVisitor.INSTANCE, values)) : null;
+    }
+
+    private static Object getValueShape(final Object value) {
+        Object result;
+
+        if (Objects.isNull(value)) {
+            result = null;
+        } else if (value instanceof CharSequence text) {
+            // Runs of digits, letters or spaces are a single character (Example: 2020-06-14 -> 0-0-0)
+            final StringBuilder shape = new StringBuilder();
+            char last = 0;
+
+            for (int i = 0; i < text.length(); i++) {
+                final char c = text.charAt(i);
+                final char kind = Character.isDigit(c) ? '0' : Character.isLetter(c) ? 'a' : Character.isWhitespace(c) ? ' ' : c;
+
+                if (kind != last || (kind != '0' && kind != 'a' && kind != ' ')) {
+                    shape.append(kind);
+                }
+
+                last = kind;
+            }
+
+            result = shape.toString();
+        } else {
+            result = value.getClass();
+        }
+
+        return result;
+    }
+
+    private static Object getValuesShape(final List<Object> values) {
+        final TreeSet<String> kinds = new TreeSet<>();
+
+        for (Object value : values) {
+            kinds.add(String.valueOf(getValueShape(value)));
+        }
+
+        return List.of(values.size(), kinds);
+    }
+
+    private static boolean isBound(final QueryDslFilter filter, final List<Slot> filterSlots) {
+        final Set<Integer> boundValues = new HashSet<>();
+
+        for (Slot slot : filterSlots) {
+            boundValues.addAll(slot.values());
+        }
+
+        // Single values are bound as value (-1), multiple values one by one
+        return Objects.isNull(filter.getValue()) || (filter.getOperator().hasMultipleValues()
+                ? IntStream.range(0, filter.getValues().size()).allMatch(boundValues::contains)
+                : boundValues.contains(-1));
+    }
+
+    private static boolean isDistinct(final Collection<?> values) {
+        return new HashSet<>(values).size() == values.size();
+    }
+
+    private static BooleanExpression toBooleanExpression(final Expression<?> expression) {
+        return expression instanceof BooleanExpression booleanExpression
+                ? booleanExpression
+                : Expressions.asBoolean((Predicate) expression);
+    }
+
+    private record FilterShape(String key, QueryDslOperators operator, Object valueShape) {
+    }
+
+    /**
+     * Filter values bound to a template parameter.
+     *
+     * @param filter:    index of the filter.
+     * @param converter: converter used by the type manager for the values.
+     * @param values:    indexes of the values at filter values (-1 for single value), parameters with multiple indexes
+     *                   are lists of values (Example: in chunks).
+     * @param list:      true if parameter is a list of values.
+     */
+    private record Slot(int filter, QueryDslValueConverter<?> converter, List<Integer> values, boolean list) {
+
+        Object getValue(final QueryDslTypedValue<?> typedValue) {
+            final List<Object> result = new ArrayList<>(values.size());
+
+            for (int value : values) {
+                if (value < 0) {
+                    result.add(typedValue.getValue());
+                } else if (value < typedValue.getValues().size()) {
+                    result.add(typedValue.getValues().get(value));
+                } else {
+                    result.add(null);
+                }
+            }
+
+            return result.contains(null) ? null : list ? result : result.get(0);
+        }
+    }
+
+    /**
+     * Replaces filter values with parameters, values are identified by identity with the values converted by type
+     * managers for the filter.
+     */
+    private static final class TemplateVisitor extends ReplaceVisitor<Void> {
+
+        // Configuration
+        private final int filter;
+        private final List<QueryDslTypedValue<?>> typedValues;
+        private final List<Slot> slots;
+
+        // State
+        private boolean reusable = true;
+
+        TemplateVisitor(final int filter, final List<QueryDslTypedValue<?>> typedValues, final List<Slot> slots) {
+            this.filter = filter;
+            this.typedValues = typedValues;
+            this.slots = slots;
+        }
+
+        @Override
+        public Expression<?> visit(final Constant<?> expr, final Void context) {
+            Expression<?> result = expr;
+
+            // Lists of values are bound value by value (Example: in chunks), all of them from the same converted values
+            final boolean list = expr.getConstant() instanceof List<?>;
+            final List<?> constants = list ? (List<?>) expr.getConstant() : List.of(expr.getConstant());
+            Slot slot = null;
+
+            for (int i = 0; Objects.isNull(slot) && i < typedValues.size(); i++) {
+                final QueryDslTypedValue<?> typedValue = typedValues.get(i);
+                final List<Integer> values = constants.stream().map(constant -> getValueIndex(typedValue, constant)).toList();
+                slot = values.contains(Integer.MIN_VALUE) ? null : new Slot(filter, typedValue.getConverter(), values, list);
+            }
+
+            if (Objects.isNull(slot)) {
+                reusable = false;
+            } else {
+                result = new Param<>(expr.getType(), String.valueOf(slots.size()));
+                slots.add(slot);
+            }
+
+            return result;
+        }
+
+        @Override
+        public Expression<?> visit(final ParamExpression<?> expr, final Void context) {
+            // Parameters added by type managers can't be bound
+            reusable = false;
+            return expr;
+        }
+
+        private static int getValueIndex(final QueryDslTypedValue<?> typedValue, final Object constant) {
+            int result = Integer.MIN_VALUE;
+
+            if (constant == typedValue.getValue()) {
+                result = -1;
+            } else {
+                for (int i = 0; result == Integer.MIN_VALUE && i < typedValue.getValues().size(); i++) {
+                    result = constant == typedValue.getValues().get(i) ? i : Integer.MIN_VALUE;
+                }
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * Replaces template parameters with bound values.
+     */
+    private static final class BindVisitor extends ReplaceVisitor<Object[]> {
+
+        // Configuration
+        private static final BindVisitor INSTANCE = new BindVisitor();
+
+        @Override
+        public Expression<?> visit(final ParamExpression<?> expr, final Object[] values) {
+            return ConstantImpl.create(values[Integer.parseInt(expr.getName())]);
+        }
+    }
+}
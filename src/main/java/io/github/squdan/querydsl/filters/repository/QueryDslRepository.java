@@ -1,10 +1,12 @@
 package io.github.squdan.querydsl.filters.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.core.types.dsl.StringPath;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFilterExpression;
 import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.IteratorUtils;
@@ -43,6 +45,9 @@ public interface QueryDslRepository<T, K extends EntityPathBase<T>>
 
     /**
      * Searchs into the repository usin received filters.
+     * <p>
+     * If filters can never match together (Example: role=ADMIN and role=USER) empty results are returned without
+     * querying the database.
      *
      * @param filters  to apply.
      * @param pageable to apply (optional).
@@ -52,17 +57,14 @@ public interface QueryDslRepository<T, K extends EntityPathBase<T>>
         Page<T> result = Page.empty();
 
         if (CollectionUtils.isNotEmpty(filters)) {
-            final QueryDslPredicateBuilder<T> queryDslPredicateBuilder = new QueryDslPredicateBuilder<T>(getEntityType())
-                    .with(filters);
+            final BooleanExpression predicate = getPredicateCompiler().compile(filters);
 
-            if (Objects.nonNull(getCustomTypesManager())) {
-                queryDslPredicateBuilder.addCustomTypeManager(getCustomTypesManager());
-            }
-
-            if (Objects.isNull(pageable)) {
-                result = new PageImpl<>(IteratorUtils.toList(this.findAll(queryDslPredicateBuilder.build()).iterator()));
+            if (predicate == QueryDslPredicateBuilder.NONE) {
+                result = Objects.isNull(pageable) ? Page.empty() : Page.empty(pageable);
+            } else if (Objects.isNull(pageable)) {
+                result = new PageImpl<>(IteratorUtils.toList(this.findAll(predicate).iterator()));
             } else {
-                result = this.findAll(queryDslPredicateBuilder.build(), pageable);
+                result = this.findAll(predicate, pageable);
             }
         } else {
             if (Objects.isNull(pageable)) {
@@ -75,6 +77,33 @@ public interface QueryDslRepository<T, K extends EntityPathBase<T>>
         return result;
     }
 
+    /**
+     * Searchs into the repository using received filter expression, all its filters are applied in a single query.
+     * <p>
+     * If expression can never match (Example: role=ADMIN and false) empty results are returned without querying the
+     * database.
+     *
+     * @param expression to apply.
+     * @param pageable   to apply (optional).
+     * @return List entity found elements.
+     */
+    default Page<T> findAll(final QueryDslFilterExpression expression, final Pageable pageable) {
+        final BooleanExpression predicate = getPredicateCompiler().compile(expression);
+        Page<T> result;
+
+        if (predicate == QueryDslPredicateBuilder.NONE) {
+            result = Objects.isNull(pageable) ? Page.empty() : Page.empty(pageable);
+        } else if (Objects.isNull(pageable)) {
+            result = new PageImpl<>(IteratorUtils.toList(Objects.isNull(predicate)
+                    ? this.findAll(new BooleanBuilder()).iterator()
+                    : this.findAll(predicate).iterator()));
+        } else {
+            result = this.findAll(Objects.isNull(predicate) ? new BooleanBuilder() : predicate, pageable);
+        }
+
+        return result;
+    }
+
     /**
      * Override this method and return your own implementation of QueryDslTypeManager to support new types.
      *
@@ -84,6 +113,29 @@ public interface QueryDslRepository<T, K extends EntityPathBase<T>>
         return null;
     }
 
+    /**
+     * Override this method to configure how filters over collections are applied (Example: each filter matching a
+     * different element).
+     *
+     * @return QueryDslCollectionsConfiguration.
+     */
+    default QueryDslCollectionsConfiguration getCollectionsConfiguration() {
+        return QueryDslCollectionsConfiguration.DEFAULT;
+    }
+
+    /**
+     * Compiler used to generate predicates from filters.
+     * <p>
+     * By default the shared compiler of the configured entity type, custom types manager and collections configuration
+     * is used, so type managers selected for each field are kept between calls. Custom types manager must be the same
+     * instance for every call (Example: a constant).
+     *
+     * @return QueryDslPredicateCompiler.
+     */
+    default QueryDslPredicateCompiler<T> getPredicateCompiler() {
+        return QueryDslPredicateCompiler.of(getEntityType(), getCustomTypesManager(), getCollectionsConfiguration());
+    }
+
     @Override
     default void customize(final QuerydslBindings bindings, final K root) {
         bindings.bind(String.class)
@@ -0,0 +1,166 @@
+package io.github.squdan.querydsl.filters.repository.metadata;
+
+import io.github.squdan.querydsl.filters.util.LruCache;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of fields reachable from an entity type, used by type managers to resolve filter keys without reflection.
+ * <p>
+ * Fields declared at the entity and its superclasses are read once per entity type from its
+ * {@link QueryDslFilterDescriptor}, generated at compile time, or with reflection if entity has no descriptor. Static
+ * fields are ignored. Dotted paths are resolved the
+ * first time they are requested and kept, so next requests are a single map lookup. Paths through collections use the
+ * collection element type (Example: user.accounts.amount) and entities may reference each other, so paths are not
+ * precomputed and the number of valid paths has no limit (Example: accounts.user.accounts.user...). Only the most
+ * recently used paths are kept, and paths that can't be resolved are not kept.
+ * <p>
+ * Instances are shared and safe to be used concurrently.
+ */
+@Slf4j
+public final class QueryDslEntityMetadata {
+
+    // Configuration - Metadata by entity type
+    private static final Map<Class<?>, QueryDslEntityMetadata> REGISTRY = new ConcurrentHashMap<>();
+
+    // Configuration - Maximum number of resolved paths kept by entity type
+    private static final int MAX_PATHS = 1024;
+
+    @Getter
+    private final Class<?> entityType;
+
+    /**
+     * Name of the entity variable used at queries (Example: userEntity).
+     */
+    @Getter
+    private final String variableName;
+
+    // Fields declared at the entity and its superclasses by name
+    private final Map<String, QueryDslFieldDescriptor> fields;
+
+    // Resolved paths, most recently used
+    private final LruCache<String, QueryDslFieldMetadata> paths = new LruCache<>(MAX_PATHS);
+
+    private QueryDslEntityMetadata(final Class<?> entityType) {
+        final QueryDslFilterDescriptor descriptor = loadDescriptor(entityType);
+
+        this.entityType = entityType;
+        this.variableName = Objects.nonNull(descriptor) ? descriptor.getVariableName() : StringUtils.uncapitalize(entityType.getSimpleName());
+        this.fields = Objects.nonNull(descriptor) ? descriptor.getFields() : readFields(entityType);
+    }
+
+    /**
+     * Returns metadata of received entity type.
+     *
+     * @param entityType: entity type class.
+     * @return QueryDslEntityMetadata.
+     */
+    public static QueryDslEntityMetadata of(final Class<?> entityType) {
+        return REGISTRY.computeIfAbsent(entityType, QueryDslEntityMetadata::new);
+    }
+
+    /**
+     * Returns metadata of the field reached through received dotted path.
+     *
+     * @param path: dotted path from the entity (Example: accounts.id.bank).
+     * @return QueryDslFieldMetadata if all fields of the path exist.
+     */
+    public Optional<QueryDslFieldMetadata> getField(final String path) {
+        return Optional.ofNullable(paths.computeIfAbsent(path, this::resolve));
+    }
+
+    private QueryDslFieldMetadata resolve(final String path) {
+        QueryDslFieldMetadata result = null;
+
+        // Get first field
+        final int separator = path.indexOf('.');
+        final String fieldName = separator < 0 ? path : path.substring(0, separator);
+        final QueryDslFieldDescriptor field = fields.get(fieldName);
+
+        if (Objects.nonNull(field)) {
+            final boolean collection = field.isCollection();
+            final Class<?> elementType = field.elementType();
+
+            if (separator < 0) {
+                result = new QueryDslFieldMetadata(path, field.type(), elementType, collection, collection ? fieldName : null);
+            } else {
+                // Nested fields are resolved (and kept) by the metadata of the field type
+                final QueryDslFieldMetadata nested = of(elementType).getField(path.substring(separator + 1)).orElse(null);
+
+                if (Objects.nonNull(nested)) {
+                    final String collectionPath = collection
+                            ? fieldName
+                            : nested.hasCollection() ? fieldName + "." + nested.collectionPath() : null;
+
+                    result = new QueryDslFieldMetadata(path, nested.type(), nested.elementType(),
+                            nested.collection(), collectionPath);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static QueryDslFilterDescriptor loadDescriptor(final Class<?> entityType) {
+        QueryDslFilterDescriptor result = null;
+
+        try {
+            final Class<?> descriptorType = Class.forName(QueryDslFilterDescriptor.getDescriptorName(entityType.getName()), true, entityType.getClassLoader());
+
+            if (QueryDslFilterDescriptor.class.isAssignableFrom(descriptorType)) {
+                final QueryDslFilterDescriptor descriptor = (QueryDslFilterDescriptor) descriptorType.getDeclaredConstructor().newInstance();
+                result = descriptor.getEntityType() == entityType ? descriptor : null;
+            }
+        } catch (final ClassNotFoundException e) {
+            // Entity without descriptor, fields are read with reflection
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            log.warn("Error loading filter descriptor for class '{}', fields are read with reflection.", entityType.getName(), e);
+        }
+
+        return result;
+    }
+
+    private static Map<String, QueryDslFieldDescriptor> readFields(final Class<?> entityType) {
+        final Map<String, QueryDslFieldDescriptor> result = new HashMap<>();
+
+        // Fields declared at subclasses hide fields with the same name declared at superclasses
+        for (Class<?> type = entityType; Objects.nonNull(type) && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isSynthetic() && !Modifier.isStatic(field.getModifiers())) {
+                    final boolean collection = Collection.class.isAssignableFrom(field.getType());
+                    result.putIfAbsent(field.getName(), new QueryDslFieldDescriptor(field.getType(), collection ? getCollectionType(field) : field.getType()));
+                }
+            }
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Class<?> getCollectionType(final Field collectionField) {
+        Class<?> result = collectionField.getType();
+        final Type collectionSuperType = collectionField.getGenericType();
+
+        if (collectionSuperType instanceof ParameterizedType parameterizedType) {
+            final Type[] collectionTypeArguments = parameterizedType.getActualTypeArguments();
+
+            if (collectionTypeArguments.length > 0 && collectionTypeArguments[0] instanceof Class<?> firstArgument) {
+                result = firstArgument;
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.squdan.querydsl.filters.repository.metadata;
+
+import java.util.Collection;
+
+/**
+ * Field declared at an entity, as known by {@link QueryDslFilterDescriptor}.
+ *
+ * @param type:        declared type of the field (Example: List for collections).
+ * @param elementType: type of the collection elements if field is a collection, otherwise same as "type".
+ */
+public record QueryDslFieldDescriptor(Class<?> type, Class<?> elementType) {
+
+    /**
+     * Returns true if field is a collection.
+     *
+     * @return true if field is a collection.
+     */
+    public boolean isCollection() {
+        return Collection.class.isAssignableFrom(type);
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.squdan.querydsl.filters.repository.metadata;
+
+import java.util.Objects;
+
+/**
+ * Information of an entity field reached from an entity through a dotted path (Example: accounts.id.bank).
+ * <p>
+ * Collections found in the path are traversed through their element type.
+ *
+ * @param path:           dotted path from the entity to the field.
+ * @param type:           declared type of the last field (Example: List for collections).
+ * @param elementType:    type of the collection elements if last field is a collection, otherwise same as "type".
+ * @param collection:     true if last field is a collection.
+ * @param collectionPath: dotted path to the first collection found in the path, null if path has no collections.
+ */
+public record QueryDslFieldMetadata(String path, Class<?> type, Class<?> elementType, boolean collection,
+                                    String collectionPath) {
+
+    /**
+     * Returns true if any field of the path, including the last one, is a collection.
+     *
+     * @return true if path has a collection.
+     */
+    public boolean hasCollection() {
+        return Objects.nonNull(collectionPath);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.squdan.querydsl.filters.repository.metadata;
+
+import java.util.Map;
+
+/**
+ * Fields of an entity known at compile time, generated by
+ * {@link io.github.squdan.querydsl.filters.processor.QueryDslFiltersProcessor} for each @Entity, @Embeddable and
+ * @MappedSuperclass as "{EntityName}FilterDescriptor" in the same package of the entity.
+ * <p>
+ * When a descriptor exists, {@link QueryDslEntityMetadata} reads fields from it instead of using reflection.
+ */
+public interface QueryDslFilterDescriptor {
+
+    /**
+     * Suffix added to entity names to generate descriptor names.
+     */
+    String SUFFIX = "FilterDescriptor";
+
+    /**
+     * Entity class.
+     *
+     * @return Class from entity.
+     */
+    Class<?> getEntityType();
+
+    /**
+     * Name of the entity variable used at queries, same as the default variable of the QueryDsl Q-type.
+     *
+     * @return entity variable name (Example: userEntity).
+     */
+    String getVariableName();
+
+    /**
+     * Fields declared at the entity and its superclasses by name, fields declared at subclasses hide fields with the
+     * same name declared at superclasses.
+     *
+     * @return fields by name.
+     */
+    Map<String, QueryDslFieldDescriptor> getFields();
+
+    /**
+     * Returns the name of the descriptor generated for received entity type.
+     * <p>
+     * Example: io.example.UserEntity -> io.example.UserEntityFilterDescriptor
+     * Example: io.example.Outer$Inner -> io.example.Outer_InnerFilterDescriptor
+     *
+     * @param entityBinaryName: entity class binary name.
+     * @return descriptor class name.
+     */
+    static String getDescriptorName(final String entityBinaryName) {
+        final int packageSeparator = entityBinaryName.lastIndexOf('.');
+        return entityBinaryName.substring(0, packageSeparator + 1)
+                + entityBinaryName.substring(packageSeparator + 1).replace('$', '_')
+                + SUFFIX;
+    }
+}
@@ -5,6 +5,8 @@ import com.querydsl.core.types.dsl.BooleanPath;
 import com.querydsl.core.types.dsl.PathBuilder;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,20 +26,9 @@ public final class QueryDslBooleanTypeManager implements QueryDslTypeManager {
         // Create field path
         final BooleanPath path = entityPath.getBoolean(filter.getKey());
 
-        // Parse value
-        boolean value;
-
-        try {
-            value = Boolean.parseBoolean(filter.getValue().toString());
-        } catch (final NumberFormatException e) {
-            final String errorMsg = String.format(
-                    "Operation '%s' error, value '%s' couldn't be parsed.",
-                    filter.getOperator(),
-                    filter.getValue()
-            );
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(errorMsg);
-        }
+        // Parse value, operators with multiple values parse each one of them
+        final QueryDslTypedValue<Boolean> typedValue = filter.getTypedValue(QueryDslValueConverters.BOOLEAN);
+        final Boolean value = typedValue.getValue();
 
         // Process operator
         switch (filter.getOperator()) {
@@ -57,6 +48,12 @@ public final class QueryDslBooleanTypeManager implements QueryDslTypeManager {
             case NON_EQUALS_FUNCTION_NE:
                 result = path.ne(value);
                 break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, typedValue.getValues());
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, typedValue.getValues());
+                break;
             default:
                 final String errorMsg = String.format("Operation '%s' not supported for type 'Boolean'.", filter.getOperator());
                 log.error(errorMsg);
@@ -2,20 +2,33 @@ package io.github.squdan.querydsl.filters.repository.type;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPAExpressions;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.repository.QueryDslCollectionStrategy;
+import io.github.squdan.querydsl.filters.repository.QueryDslPathBuilder;
 import io.github.squdan.querydsl.filters.repository.QueryDslPredicateFactory;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslEntityMetadata;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFieldMetadata;
+import io.github.squdan.querydsl.filters.util.PredicateUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.lang.reflect.Type;
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * QueryDslTypeManager implementation to manage Collections.
+ * <p>
+ * Each filter matches if any element of the collection matches it (exists subquery). Filters over the same collection
+ * can be applied together with "manage(entityType, entityPath, filters)", so all of them must match the same element
+ * and the collection is read by a single correlated subquery:
+ * <p>
+ * - exists (select 1 from userEntity.accounts as userEntity_accounts where userEntity_accounts.amount > ?1 and ...)
+ * <p>
+ * Subqueries use the {@link QueryDslCollectionStrategy} configured for each collection into the
+ * {@link io.github.squdan.querydsl.filters.repository.QueryDslCollectionsConfiguration} of the factory.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -33,65 +46,121 @@ public final class QueryDslCollectionTypeManager implements QueryDslTypeManager
         final PathToProcess pathToProcess = getQueryDslPathToProcess(entityType, filter.getKey());
         final Class<?> collectionType = getTypeFrom(entityType, pathToProcess.collectionPath);
 
-        // Update filter key
-        final QueryDslFilter updatedFilter = QueryDslFilter.builder()
-                .key(pathToProcess.fieldCollectionPath)
-                .operator(filter.getOperator())
-                .value(filter.getValue())
-                .build();
+        // Update filter key, keeping the value already converted
+        final QueryDslFilter updatedFilter = filter.withKey(pathToProcess.fieldCollectionPath);
 
         return manageCollection(entityPath, pathToProcess, collectionType, updatedFilter);
     }
 
+    /**
+     * Proces received filters over the same collection and generate a single BooleanExpression predicate, matching if
+     * any element of the collection matches all filters.
+     *
+     * @param entityType: entity type class.
+     * @param entityPath: QueryDsl entity path.
+     * @param filters:    filters to apply, all of them over the same collection (check "getCollectionPath").
+     * @param <T>:        entity type.
+     * @return BooleanExpression from received filters.
+     */
+    public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final List<QueryDslFilter> filters) {
+        // Create collection field path
+        final String collectionPath = getCollectionPath(entityType, filters.get(0).getKey());
+        final Class<?> collectionType = getTypeFrom(entityType, collectionPath);
+
+        // Update filters keys, keeping the values already converted
+        final List<QueryDslFilter> updatedFilters = new ArrayList<>(filters.size());
+
+        for (QueryDslFilter filter : filters) {
+            updatedFilters.add(filter.withKey(getQueryDslPathToProcess(entityType, filter.getKey()).fieldCollectionPath));
+        }
+
+        return manageCollection(entityPath, collectionPath, collectionType, updatedFilters);
+    }
+
+    /**
+     * Returns dotted path to the first collection of the filter key (Example: accounts.id.bank -> accounts).
+     *
+     * @param entityType: entity type class.
+     * @param key:        filter key.
+     * @return collection path.
+     */
+    public String getCollectionPath(final Class<?> entityType, final String key) {
+        return getFieldMetadata(entityType, key, "Error checking if path '%s' for class '%s' has a collection.").collectionPath();
+    }
+
+    private <T, K> BooleanExpression manageCollection(
+            final PathBuilder<T> entityPath,
+            final String collectionPath,
+            final Class<K> collectionType,
+            final List<QueryDslFilter> filters) {
+        // Shared entity paths keep the path to collection elements
+        final PathBuilder<K> elementPath = entityPath instanceof QueryDslPathBuilder<T> queryDslPathBuilder
+                ? queryDslPathBuilder.alias(collectionPath, collectionType)
+                : new PathBuilder<>(collectionType, QueryDslPathBuilder.getAliasName(entityPath, collectionPath));
+
+        // Filters of the element are grouped again, so nested collections are also read by a single subquery
+        final BooleanExpression conditions = PredicateUtils.allOf(queryDslPredicateFactory.getPredicates(collectionType, elementPath, filters));
+
+        final BooleanExpression result;
+
+        if (QueryDslCollectionStrategy.IN_SUBQUERY == getStrategy(collectionPath)) {
+            // Entities joined to matching elements, the subquery is not correlated with the entity
+            final PathBuilder<T> ownerPath = entityPath instanceof QueryDslPathBuilder<T> queryDslPathBuilder
+                    ? queryDslPathBuilder.owner(collectionPath)
+                    : new PathBuilder<>(entityPath.getType(), QueryDslPathBuilder.getOwnerName(entityPath, collectionPath));
+            result = entityPath.in(JPAExpressions.select(ownerPath)
+                    .from(ownerPath)
+                    .innerJoin(ownerPath.getCollection(collectionPath, collectionType), elementPath)
+                    .where(conditions));
+        } else {
+            result = JPAExpressions.selectOne()
+                    .from(entityPath.getCollection(collectionPath, collectionType), elementPath)
+                    .where(conditions)
+                    .exists();
+        }
+
+        return result;
+    }
+
     private <T, K> BooleanExpression manageCollection(
             final PathBuilder<T> entityPath,
             final PathToProcess pathToProcess,
             final Class<K> collectionType,
             final QueryDslFilter filter) {
-        final PathBuilder<K> collectionPath = entityPath.getCollection(pathToProcess.collectionPath, collectionType).any();
-        return queryDslPredicateFactory.getPredicate(collectionType, collectionPath, filter);
-    }
+        final BooleanExpression result;
+
+        if (QueryDslCollectionStrategy.EXISTS == getStrategy(pathToProcess.collectionPath)) {
+            // Shared entity paths keep the path to collection elements
+            final PathBuilder<K> collectionPath = entityPath instanceof QueryDslPathBuilder<T> queryDslPathBuilder
+                    ? queryDslPathBuilder.any(pathToProcess.collectionPath, collectionType)
+                    : entityPath.getCollection(pathToProcess.collectionPath, collectionType).any();
+            result = queryDslPredicateFactory.getPredicate(collectionType, collectionPath, filter);
+        } else {
+            result = manageCollection(entityPath, pathToProcess.collectionPath, collectionType, List.of(filter));
+        }
 
-    record PathToProcess(String collectionPath, String fieldCollectionPath) {
+        return result;
     }
 
-    private boolean pathHasCollection(final Class<?> sourceType, final String path) {
-        return StringUtils.isNotBlank(getCollectionFieldName(sourceType, path));
+    private QueryDslCollectionStrategy getStrategy(final String collectionPath) {
+        return queryDslPredicateFactory.getCollectionsConfiguration().getStrategy(collectionPath);
     }
 
-    private String getCollectionFieldName(final Class<?> sourceType, final String path) {
-        String result = null;
-
-        // Get first field
-        final String[] entityFieldsToCollection = path.split("\\.", 2);
-
-        try {
-            final Field field = sourceType.getDeclaredField(entityFieldsToCollection[0]);
-            final Class<?> fieldType = field.getType();
-
-            if (Collection.class.isAssignableFrom(fieldType)) {
-                result = entityFieldsToCollection[0];
-            } else if (entityFieldsToCollection.length == 2) {
-                result = getCollectionFieldName(getCollectionType(field), entityFieldsToCollection[1]);
-            }
-        } catch (final NoSuchFieldException e) {
-            final String errorMsg = String.format("Error checking if path '%s' for class '%s' has a collection.", path, sourceType.getSimpleName());
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(e, errorMsg);
-        }
+    record PathToProcess(String collectionPath, String fieldCollectionPath) {
+    }
 
-        return result;
+    private boolean pathHasCollection(final Class<?> sourceType, final String path) {
+        return getFieldMetadata(sourceType, path, "Error checking if path '%s' for class '%s' has a collection.").hasCollection();
     }
 
     private PathToProcess getQueryDslPathToProcess(final Class<?> sourceType, final String path) {
         PathToProcess result;
 
-        final String collectionFieldName = getCollectionFieldName(sourceType, path);
-        final String[] pathComponents = path.split(collectionFieldName + "\\.", 2);
+        final String collectionPath = getCollectionPath(sourceType, path);
 
         // Get field name
-        if (pathComponents.length > 1) {
-            result = new PathToProcess(pathComponents[0] + collectionFieldName, pathComponents[1]);
+        if (path.length() > collectionPath.length() + 1) {
+            result = new PathToProcess(collectionPath, path.substring(collectionPath.length() + 1));
         } else {
             final String errorMsg = String.format("Error searching collection field for query '%s'", path);
             log.error(errorMsg);
@@ -103,45 +172,18 @@ public final class QueryDslCollectionTypeManager implements QueryDslTypeManager
 
     @Override
     public Class<?> getTypeFrom(final Class<?> sourceType, final String path) {
-        Class<?> result;
-
-        // Get first field
-        final String[] entityFieldsToCollection = path.split("\\.", 2);
-
-        try {
-            final Field field = sourceType.getDeclaredField(entityFieldsToCollection[0]);
-            result = getCollectionType(field);
-
-            if (entityFieldsToCollection.length == 2) {
-                result = getTypeFrom(result, entityFieldsToCollection[1]);
-            }
-        } catch (final NoSuchFieldException e) {
-            final String errorMsg = String.format("Error searching type from '%s' for class '%s'", path, sourceType.getSimpleName());
-            throw new QueryDslFiltersException(e, errorMsg);
-        }
-
-        return result;
+        return getFieldMetadata(sourceType, path, "Error searching type from '%s' for class '%s'").elementType();
     }
 
-    private Class<?> getCollectionType(final Field collectionField) {
-        Class<?> result = collectionField.getType();
-
-        if (Collection.class.isAssignableFrom(result)) {
-            final Type collectionSuperType = collectionField.getGenericType();
+    private QueryDslFieldMetadata getFieldMetadata(final Class<?> sourceType, final String path, final String errorFormat) {
+        final Optional<QueryDslFieldMetadata> result = QueryDslEntityMetadata.of(sourceType).getField(path);
 
-            if (collectionSuperType instanceof ParameterizedType parameterizedType) {
-                final Type[] collectionTypeArguments = parameterizedType.getActualTypeArguments();
-
-                if (collectionTypeArguments.length > 0) {
-                    final Type firstArgument = collectionTypeArguments[0];
-
-                    if (firstArgument instanceof Class) {
-                        result = (Class<?>) firstArgument;
-                    }
-                }
-            }
+        if (result.isEmpty()) {
+            final String errorMsg = String.format(errorFormat, path, sourceType.getSimpleName());
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
         }
 
-        return result;
+        return result.get();
     }
 }
@@ -1,26 +1,99 @@
 package io.github.squdan.querydsl.filters.repository.type;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.DatePath;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.TemporalExpression;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.util.DateTimeFormats;
 import io.github.squdan.querydsl.filters.util.DateTimeUtils;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
+import io.github.squdan.querydsl.filters.util.PredicateUtils;
+import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
 
 /**
  * QueryDslTypeManager implementation to manage Dates.
+ * <p>
+ * Supported date types are Instant, LocalDateTime, OffsetDateTime, ZonedDateTime, Date, Timestamp, LocalDate and
+ * java.sql.Date. Values are converted to the exact field type, so they are bound without conversions in the database.
+ * <p>
+ * Dates without time (Example: 2020-06-14) compared with date time fields match the whole day, using ranges over the
+ * field instead of date functions:
+ * <p>
+ * - createdOn=2020-06-14: createdOn >= 2020-06-14T00:00 and createdOn < 2020-06-15T00:00.
+ * - createdOn!=2020-06-14: createdOn < 2020-06-14T00:00 or createdOn >= 2020-06-15T00:00.
+ * - createdOn>2020-06-14: createdOn >= 2020-06-15T00:00.
+ * - createdOn<=2020-06-14: createdOn < 2020-06-15T00:00.
+ * - in(createdOn : 2020-06-14|2020-06-20): (createdOn >= 2020-06-14T00:00 and createdOn < 2020-06-15T00:00) or
+ * (createdOn >= 2020-06-20T00:00 and createdOn < 2020-06-21T00:00).
+ * - notIn(createdOn : 2020-06-14|2020-06-20): (createdOn < 2020-06-14T00:00 or createdOn >= 2020-06-15T00:00) and
+ * (createdOn < 2020-06-20T00:00 or createdOn >= 2020-06-21T00:00).
+ * <p>
+ * Filters ">=" and "<" already match whole days. Filters "in" and "notIn" with days compare each value on its own,
+ * values with time are compared with "=" and "!=", and "in" clauses are only used when no value is a day.
+ * <p>
+ * By default, values are parsed with the formats of {@link DateTimeUtils}. To use other formats in a repository,
+ * register a {@link QueryDslDateTypeManager} with them into the custom types manager of the repository:
+ * <pre>
+ * QueryDslTypeManagerRegistry CUSTOM_TYPES = new QueryDslTypeManagerRegistry()
+ *         .register(Temporal.class, new QueryDslDateTypeManager(DateTimeUtils.getFormats()
+ *                 .withDateFormat(DateTimeFormatter.ofPattern("dd/MM/yyyy"))));
+ * </pre>
  */
 @Slf4j
 public final class QueryDslDateTypeManager implements QueryDslTypeManager {
 
+    // Constants - Date types without time, the rest of types are date times
+    private static final Set<Class<?>> DATE_TYPES = Set.of(LocalDate.class, java.sql.Date.class);
+
+    // Constants - Operators whose dates without time are compared with date time fields using the next day
+    private static final Set<QueryDslOperators> DAY_OPERATORS = Set.of(
+            QueryDslOperators.EQUALS, QueryDslOperators.EQUALS_FUNCTION, QueryDslOperators.EQUALS_FUNCTION_EQ,
+            QueryDslOperators.NOT_EQUALS, QueryDslOperators.NON_EQUALS_FUNCTION, QueryDslOperators.NON_EQUALS_FUNCTION_NE,
+            QueryDslOperators.GREATER_THAN, QueryDslOperators.GREATER_THAN_FUNCTION_GT,
+            QueryDslOperators.LOWER_THAN_OR_EQUALS, QueryDslOperators.LOWER_THAN_OR_EQUALS_FUNCTION_LTE
+    );
+
+    // Configuration - Path and converter by date type
+    private final Map<Class<?>, DateField<?>> dateFields = new HashMap<>();
+
+    /**
+     * Constructor with the formats of {@link DateTimeUtils}.
+     */
+    public QueryDslDateTypeManager() {
+        this(QueryDslValueConverters.temporalConverters());
+    }
+
+    /**
+     * Constructor with received formats.
+     *
+     * @param formats: formats to parse values.
+     */
+    public QueryDslDateTypeManager(@NotNull final DateTimeFormats formats) {
+        this(QueryDslValueConverters.temporalConverters(formats));
+    }
+
+    @SuppressWarnings("unchecked")
+    private QueryDslDateTypeManager(final Map<Class<?>, QueryDslValueConverter<?>> converters) {
+        final QueryDslValueConverter<LocalDate> dayConverter = (QueryDslValueConverter<LocalDate>) converters.get(LocalDate.class);
+        converters.forEach((type, converter) -> dateFields.put(type, DateField.of(converter, DATE_TYPES.contains(type) ? null : dayConverter)));
+    }
+
     public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
         final Class<?> fieldType = getTypeFrom(entityType, filter.getKey());
         return Temporal.class.isAssignableFrom(fieldType) || Date.class.isAssignableFrom(fieldType);
@@ -28,48 +101,108 @@ public final class QueryDslDateTypeManager implements QueryDslTypeManager {
 
     public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
         final Class<?> fieldType = getTypeFrom(entityType, filter.getKey());
-        BooleanExpression result;
+        final DateField<?> dateField = dateFields.get(fieldType);
 
-        if (Instant.class.isAssignableFrom(fieldType) || LocalDateTime.class.isAssignableFrom(fieldType)) {
-            // Create field path
-            final DatePath<Instant> path = entityPath.getDate(filter.getKey(), Instant.class);
+        if (Objects.isNull(dateField)) {
+            final String errorMsg = String.format("Date type not supported '%s'.", fieldType);
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
 
-            // Parse value
-            final Instant value = DateTimeUtils.toInstantUtc(filter.getValue().toString());
+        return manage(entityPath, filter, dateField);
+    }
 
-            // Generate filter expression
-            result = generateExpression(filter, path, value);
-        } else if (LocalDate.class.isAssignableFrom(fieldType)) {
-            // Create field path
-            final DatePath<LocalDate> path = entityPath.getDate(filter.getKey(), LocalDate.class);
+    private <D extends Comparable<?>> BooleanExpression manage(final PathBuilder<?> entityPath, final QueryDslFilter filter,
+                                                               final DateField<D> dateField) {
+        BooleanExpression result;
 
-            // Parse value
-            final LocalDate value = DateTimeUtils.toLocalDate(filter.getValue().toString());
+        // Create field path
+        final TemporalExpression<D> path = dateField.path().apply(entityPath, filter.getKey());
 
-            // Generate filter expression
-            result = generateExpression(filter, path, value);
+        // Parse value and generate filter expression, date time fields compared with days use their bounds
+        if (!dateField.isDateTime() || (!DAY_OPERATORS.contains(filter.getOperator()) && !filter.getOperator().hasMultipleValues())) {
+            result = generateExpression(filter, path, filter.getTypedValue(dateField.converter()));
+        } else if (filter.getOperator().hasMultipleValues()) {
+            result = filter.getValues().stream().anyMatch(dateField::isDay)
+                    ? generateDaysExpression(filter, path, dateField)
+                    : generateExpression(filter, path, filter.getTypedValue(dateField.converter()));
+        } else if (dateField.isDay(filter.getValue())) {
+            result = generateDayExpression(filter, path, dateField);
         } else {
-            final String errorMsg = String.format("Date type not supported '%s'.", fieldType);
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(errorMsg);
+            result = generateExpression(filter, path, filter.getTypedValue(dateField.dateTimeConverter()));
         }
 
         return result;
     }
 
-    private <T extends Comparable<?>> BooleanExpression generateExpression(final QueryDslFilter filter, final DatePath<T> path, final T value) {
+    private <D extends Comparable<?>> BooleanExpression generateDayExpression(final QueryDslFilter filter, final TemporalExpression<D> path,
+                                                                              final DateField<D> dateField) {
         BooleanExpression result = null;
 
-        if (Objects.isNull(value)) {
-            final String errorMsg = String.format(
-                    "Operation '%s' error, value '%s' couldn't be parsed.",
-                    filter.getOperator(),
-                    filter.getValue()
-            );
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(errorMsg);
+        // Values converted by the filter are kept, so bounds of ">" and "<=" filters are bound again by predicate plans
+        switch (filter.getOperator()) {
+            case EQUALS:
+            case EQUALS_FUNCTION:
+            case EQUALS_FUNCTION_EQ:
+                result = path.goe(filter.getTypedValue(dateField.converter()).getValue()).and(path.lt(dateField.nextDayConverter().convert(filter.getValue())));
+                break;
+            case NOT_EQUALS:
+            case NON_EQUALS_FUNCTION:
+            case NON_EQUALS_FUNCTION_NE:
+                result = path.lt(filter.getTypedValue(dateField.converter()).getValue()).or(path.goe(dateField.nextDayConverter().convert(filter.getValue())));
+                break;
+            case GREATER_THAN:
+            case GREATER_THAN_FUNCTION_GT:
+                result = path.goe(filter.getTypedValue(dateField.nextDayConverter()).getValue());
+                break;
+            case LOWER_THAN_OR_EQUALS:
+            case LOWER_THAN_OR_EQUALS_FUNCTION_LTE:
+                result = path.lt(filter.getTypedValue(dateField.nextDayConverter()).getValue());
+                break;
+            default:
+                final String errorMsg = String.format("Operation '%s' not supported for days of type 'Date - %s'.", filter.getOperator(),
+                        dateField.converter().getType());
+                log.error(errorMsg);
+                throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return result;
+    }
+
+    private <D extends Comparable<?>> BooleanExpression generateDaysExpression(final QueryDslFilter filter, final TemporalExpression<D> path,
+                                                                               final DateField<D> dateField) {
+        final boolean in = filter.getOperator() == QueryDslOperators.IN_FUNCTION;
+        final List<Object> rawValues = filter.getValues();
+        final List<D> values = filter.getTypedValue(dateField.converter()).getValues();
+
+        // Next days converted by the filter are bound again by predicate plans, so they are only used if all values are days
+        final boolean days = rawValues.stream().allMatch(dateField::isDay);
+        final List<D> nextDays = days ? filter.getTypedValue(dateField.nextDayConverter()).getValues() : null;
+
+        // Each day matches its whole range, values with time match only their instant
+        final List<BooleanExpression> predicates = new ArrayList<>(values.size());
+
+        for (int i = 0; i < values.size(); i++) {
+            final D value = values.get(i);
+            final D nextDay = days ? nextDays.get(i) : dateField.nextDayConverter().convert(rawValues.get(i));
+
+            if (Objects.isNull(nextDay)) {
+                predicates.add(in ? path.eq(value) : path.ne(value));
+            } else {
+                predicates.add(in ? path.goe(value).and(path.lt(nextDay)) : path.lt(value).or(path.goe(nextDay)));
+            }
         }
 
+        return in ? PredicateUtils.anyOf(predicates) : PredicateUtils.allOf(predicates);
+    }
+
+    private <T extends Comparable<?>> BooleanExpression generateExpression(final QueryDslFilter filter, final TemporalExpression<T> path,
+                                                                           final QueryDslTypedValue<T> typedValue) {
+        BooleanExpression result = null;
+
+        // Values that couldn't be parsed have been already reported by QueryDslFilter
+        final T value = typedValue.getValue();
+
         // Process operator
         switch (filter.getOperator()) {
             case IS_NULL_FUNCTION:
@@ -104,12 +237,89 @@ public final class QueryDslDateTypeManager implements QueryDslTypeManager {
             case LOWER_THAN_OR_EQUALS_FUNCTION_LTE:
                 result = path.loe(value);
                 break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, typedValue.getValues());
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, typedValue.getValues());
+                break;
             default:
-                final String errorMsg = String.format("Operation '%s' not supported for type 'Date - %s'.", filter.getOperator(), value.getClass());
+                final String errorMsg = String.format("Operation '%s' not supported for type 'Date - %s'.", filter.getOperator(), typedValue.getType());
                 log.error(errorMsg);
                 throw new QueryDslFiltersException(errorMsg);
         }
 
         return result;
     }
+
+    /**
+     * Path and converters of fields of a date type.
+     *
+     * @param converter:         converter to the date type.
+     * @param dateTimeConverter: converter of values with time to the date type, null for days (only date times).
+     * @param nextDayConverter:  converter of days to the start of the next day in the date type, null for values
+     *                           with time (only date times).
+     * @param dayConverter:      converter of days, null if the date type has no time.
+     * @param path:              function returning the path of a field by entity path and field key.
+     * @param <D>:               date type.
+     */
+    private record DateField<D extends Comparable<?>>(QueryDslValueConverter<D> converter, QueryDslValueConverter<D> dateTimeConverter,
+                                                      QueryDslValueConverter<D> nextDayConverter, QueryDslValueConverter<LocalDate> dayConverter,
+                                                      BiFunction<PathBuilder<?>, String, TemporalExpression<D>> path) {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static DateField<?> of(final QueryDslValueConverter<?> converter, final QueryDslValueConverter<LocalDate> dayConverter) {
+            final QueryDslValueConverter<Comparable> dateConverter = (QueryDslValueConverter<Comparable>) converter;
+            final Class<Comparable> type = dateConverter.getType();
+            DateField<?> result;
+
+            // Date fields use date paths and the rest use date time paths, as QueryDsl Q-types do
+            if (Objects.isNull(dayConverter)) {
+                result = new DateField<>(dateConverter, null, null, null, (entityPath, key) -> entityPath.getDate(key, type));
+            } else {
+                result = new DateField<>(dateConverter,
+                        QueryDslValueConverters.of(type, v -> Objects.isNull(toDay(v, dayConverter)) ? dateConverter.convert(v) : null),
+                        QueryDslValueConverters.of(type, v -> toNextDay(toDay(v, dayConverter), dateConverter)),
+                        dayConverter,
+                        (entityPath, key) -> entityPath.getDateTime(key, type));
+            }
+
+            return result;
+        }
+
+        /**
+         * Returns true if fields of this type have time.
+         *
+         * @return true if date type is a date time.
+         */
+        boolean isDateTime() {
+            return Objects.nonNull(dayConverter);
+        }
+
+        /**
+         * Returns true if received filter value is a day without time (Example: 2020-06-14).
+         *
+         * @param value: filter value.
+         * @return true if value is a day.
+         */
+        boolean isDay(final Object value) {
+            return Objects.nonNull(toDay(value, dayConverter));
+        }
+
+        private static LocalDate toDay(final Object value, final QueryDslValueConverter<LocalDate> dayConverter) {
+            LocalDate result = null;
+
+            if (value instanceof LocalDate day) {
+                result = day;
+            } else if (value instanceof CharSequence) {
+                result = dayConverter.convert(value);
+            }
+
+            return result;
+        }
+
+        private static <D> D toNextDay(final LocalDate day, final QueryDslValueConverter<D> converter) {
+            return Objects.isNull(day) ? null : converter.convert(day.plusDays(1).toString());
+        }
+    }
 }
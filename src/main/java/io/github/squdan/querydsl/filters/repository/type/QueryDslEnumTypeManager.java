@@ -0,0 +1,111 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.EnumPath;
+import com.querydsl.core.types.dsl.PathBuilder;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * QueryDslTypeManager implementation to manage Enums by constant name.
+ * <p>
+ * Constants of each Enum are read once and kept in a name to constant map, so values are converted without
+ * Enum.valueOf exceptions or reflection.
+ */
+@Slf4j
+public final class QueryDslEnumTypeManager implements QueryDslTypeManager {
+
+    // Configuration - Converters by Enum type
+    private static final Map<Class<?>, QueryDslValueConverter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+    public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+        return getTypeFrom(entityType, filter.getKey()).isEnum();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+        final Class enumType = getTypeFrom(entityType, filter.getKey());
+        return manageEnum(entityPath, filter, enumType);
+    }
+
+    private <T, E extends Enum<E>> BooleanExpression manageEnum(final PathBuilder<T> entityPath, final QueryDslFilter filter,
+                                                                final Class<E> enumType) {
+        BooleanExpression result;
+
+        // Create field path
+        final EnumPath<E> path = entityPath.getEnum(filter.getKey(), enumType);
+
+        // Parse value, operators with multiple values parse each one of them
+        final QueryDslTypedValue<E> typedValue = filter.getTypedValue(getConverter(enumType));
+        final E value = typedValue.getValue();
+
+        // Process operator
+        switch (filter.getOperator()) {
+            case IS_NULL_FUNCTION:
+                result = path.isNull();
+                break;
+            case NON_NULL_FUNCTION:
+                result = path.isNotNull();
+                break;
+            case EQUALS:
+            case EQUALS_FUNCTION:
+            case EQUALS_FUNCTION_EQ:
+                result = path.eq(value);
+                break;
+            case NOT_EQUALS:
+            case NON_EQUALS_FUNCTION:
+            case NON_EQUALS_FUNCTION_NE:
+                result = path.ne(value);
+                break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, typedValue.getValues());
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, typedValue.getValues());
+                break;
+            default:
+                final String errorMsg = String.format("Operation '%s' not supported for type '%s'.", filter.getOperator(), enumType.getSimpleName());
+                log.error(errorMsg);
+                throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the shared converter from constant names to received Enum type.
+     *
+     * @param enumType: Enum type.
+     * @param <E>:      Enum type.
+     * @return QueryDslValueConverter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> QueryDslValueConverter<E> getConverter(final Class<E> enumType) {
+        return (QueryDslValueConverter<E>) CONVERTERS.computeIfAbsent(enumType, type -> {
+            final Map<String, E> constants = Arrays.stream(enumType.getEnumConstants())
+                    .collect(Collectors.toUnmodifiableMap(Enum::name, Function.identity()));
+
+            return QueryDslValueConverters.of(enumType, v -> {
+                final E constant = constants.get(v.toString());
+
+                if (Objects.isNull(constant)) {
+                    throw new IllegalArgumentException(String.format("No constant '%s' in '%s'.", v, enumType.getSimpleName()));
+                }
+
+                return constant;
+            });
+        });
+    }
+
+}
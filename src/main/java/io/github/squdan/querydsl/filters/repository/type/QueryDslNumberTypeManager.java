@@ -5,38 +5,74 @@ import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.core.types.dsl.PathBuilder;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.repository.QueryDslPredicateBuilder;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ClassUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * QueryDslTypeManager implementation to manage Numbers.
+ * <p>
+ * Paths and values have the exact field type (Example: BigDecimal for BigDecimal fields, Integer for int fields), so
+ * values are bound without casts that prevent the use of indexes or lose precision. Comparisons of integer fields with
+ * values out of the field type are converted to the equivalent integer bound (Example: age > 17.5 -> age > 17), the
+ * rest of operators only allow values of the field type.
  */
 @Slf4j
 public final class QueryDslNumberTypeManager implements QueryDslTypeManager {
 
+    // Configuration - Range of integer types, types without range are unlimited
+    private static final Map<Class<?>, Range> INTEGER_RANGES = Map.of(
+            Long.class, new Range(BigDecimal.valueOf(Long.MIN_VALUE), BigDecimal.valueOf(Long.MAX_VALUE)),
+            Integer.class, new Range(BigDecimal.valueOf(Integer.MIN_VALUE), BigDecimal.valueOf(Integer.MAX_VALUE)),
+            Short.class, new Range(BigDecimal.valueOf(Short.MIN_VALUE), BigDecimal.valueOf(Short.MAX_VALUE)),
+            Byte.class, new Range(BigDecimal.valueOf(Byte.MIN_VALUE), BigDecimal.valueOf(Byte.MAX_VALUE))
+    );
+
     public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
-        return Number.class.isAssignableFrom(getTypeFrom(entityType, filter.getKey()));
+        return Number.class.isAssignableFrom(ClassUtils.primitiveToWrapper(getTypeFrom(entityType, filter.getKey())));
     }
 
     public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
-        BooleanExpression result = null;
+        final Class<?> numberType = getNumberType(getTypeFrom(entityType, filter.getKey()));
 
+        return filter.getOperator().hasMultipleValues()
+                ? manageMultipleValues(entityPath, filter, numberType)
+                : manageSingleValue(entityPath, filter, numberType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, N extends Number & Comparable<?>> BooleanExpression manageSingleValue(
+            final PathBuilder<T> entityPath,
+            final QueryDslFilter filter,
+            final Class<?> fieldType) {
         // Create field path
-        final NumberPath<Double> path = entityPath.getNumber(filter.getKey(), Double.class);
+        final Class<N> numberType = (Class<N>) fieldType;
+        final NumberPath<N> path = entityPath.getNumber(filter.getKey(), numberType);
+        final QueryDslValueConverter<N> converter = QueryDslValueConverters.number(numberType);
 
-        // Parse value
-        Double value;
+        // Comparisons of integer fields with values out of the field type are processed as integer bounds
+        return isComparison(filter.getOperator()) && QueryDslValueConverters.isIntegral(numberType) && !isConvertible(converter, filter.getValue())
+                ? manageIntegerBound(path, filter, numberType, converter)
+                : manageExactValue(path, filter, converter);
+    }
 
-        try {
-            value = Double.parseDouble(filter.getValue().toString());
-        } catch (final NumberFormatException e) {
-            final String errorMsg = String.format(
-                    "Operation '%s' error, value '%s' couldn't be parsed.",
-                    filter.getOperator(),
-                    filter.getValue()
-            );
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(errorMsg);
-        }
+    private <N extends Number & Comparable<?>> BooleanExpression manageExactValue(
+            final NumberPath<N> path,
+            final QueryDslFilter filter,
+            final QueryDslValueConverter<N> converter) {
+        BooleanExpression result = null;
+
+        // Parse value
+        final N value = filter.getTypedValue(converter).getValue();
 
         // Process operator
         switch (filter.getOperator()) {
@@ -80,4 +116,112 @@ public final class QueryDslNumberTypeManager implements QueryDslTypeManager {
 
         return result;
     }
+
+    private <N extends Number & Comparable<?>> BooleanExpression manageIntegerBound(
+            final NumberPath<N> path,
+            final QueryDslFilter filter,
+            final Class<N> numberType,
+            final QueryDslValueConverter<N> converter) {
+        BooleanExpression result;
+
+        // Parse value
+        final BigDecimal value = filter.getTypedValue(QueryDslValueConverters.number(BigDecimal.class)).getValue();
+
+        // Equivalent integer bound: x > 17.5 -> x > 17, x >= 17.5 -> x >= 18, x < 17.5 -> x < 18, x <= 17.5 -> x <= 17
+        // Bounds aren't filter values, so predicate plans with them are always generated again by this manager
+        final boolean greater = isGreater(filter.getOperator());
+        final boolean inclusive = isInclusive(filter.getOperator());
+        final BigDecimal bound = value.setScale(0, greater == inclusive ? RoundingMode.CEILING : RoundingMode.FLOOR);
+        final Range range = INTEGER_RANGES.get(numberType);
+
+        // Bounds out of the field type match all values or none of them
+        if (Objects.nonNull(range) && bound.compareTo(range.max()) > 0) {
+            result = greater ? QueryDslPredicateBuilder.NONE : path.isNotNull();
+        } else if (Objects.nonNull(range) && bound.compareTo(range.min()) < 0) {
+            result = greater ? path.isNotNull() : QueryDslPredicateBuilder.NONE;
+        } else {
+            final N integerBound = converter.convert(bound);
+
+            if (greater) {
+                result = inclusive ? path.goe(integerBound) : path.gt(integerBound);
+            } else {
+                result = inclusive ? path.loe(integerBound) : path.lt(integerBound);
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, N extends Number & Comparable<?>> BooleanExpression manageMultipleValues(
+            final PathBuilder<T> entityPath,
+            final QueryDslFilter filter,
+            final Class<?> fieldType) {
+        BooleanExpression result;
+
+        // Create field path
+        final Class<N> numberType = (Class<N>) fieldType;
+        final NumberPath<N> path = entityPath.getNumber(filter.getKey(), numberType);
+
+        // Parse values
+        final List<N> values = filter.getTypedValue(QueryDslValueConverters.number(numberType)).getValues();
+
+        // Process operator
+        if (filter.getOperator() == QueryDslOperators.IN_FUNCTION) {
+            result = InClauseUtils.in(filter, path, values);
+        } else {
+            result = InClauseUtils.notIn(filter, path, values);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns true if received value is a value of received field type, so it's compared as it is (Example: 17.5 isn't
+     * a value of "int" fields, comparisons with it are processed as integer bounds).
+     *
+     * @param fieldType: number field type.
+     * @param value:     filter value.
+     * @return true if value can be converted to field type.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static boolean isFieldValue(final Class<?> fieldType, final Object value) {
+        return isConvertible(QueryDslValueConverters.number((Class) getNumberType(fieldType)), value);
+    }
+
+    private static Class<?> getNumberType(final Class<?> fieldType) {
+        // Primitive fields are compared with values of their wrapper type, other Numbers without converter as Double
+        final Class<?> result = ClassUtils.primitiveToWrapper(fieldType);
+        return QueryDslValueConverters.isNumberSupported(result) ? result : Double.class;
+    }
+
+    private static boolean isConvertible(final QueryDslValueConverter<?> converter, final Object value) {
+        boolean result;
+
+        try {
+            result = Objects.isNull(value) || converter.getType().isInstance(value) || Objects.nonNull(converter.convert(value));
+        } catch (final IllegalArgumentException e) {
+            result = false;
+        }
+
+        return result;
+    }
+
+    private static boolean isComparison(final QueryDslOperators operator) {
+        return isGreater(operator) || operator == QueryDslOperators.LOWER_THAN || operator == QueryDslOperators.LOWER_THAN_FUNCTION_LT
+                || operator == QueryDslOperators.LOWER_THAN_OR_EQUALS || operator == QueryDslOperators.LOWER_THAN_OR_EQUALS_FUNCTION_LTE;
+    }
+
+    private static boolean isGreater(final QueryDslOperators operator) {
+        return operator == QueryDslOperators.GREATER_THAN || operator == QueryDslOperators.GREATER_THAN_FUNCTION_GT
+                || operator == QueryDslOperators.GREATER_THAN_OR_EQUALS || operator == QueryDslOperators.GREATER_THAN_OR_EQUALS_FUNCTION_GTE;
+    }
+
+    private static boolean isInclusive(final QueryDslOperators operator) {
+        return operator == QueryDslOperators.GREATER_THAN_OR_EQUALS || operator == QueryDslOperators.GREATER_THAN_OR_EQUALS_FUNCTION_GTE
+                || operator == QueryDslOperators.LOWER_THAN_OR_EQUALS || operator == QueryDslOperators.LOWER_THAN_OR_EQUALS_FUNCTION_LTE;
+    }
+
+    private record Range(BigDecimal min, BigDecimal max) {
+    }
 }
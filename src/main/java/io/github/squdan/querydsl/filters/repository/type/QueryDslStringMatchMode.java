@@ -0,0 +1,40 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+/**
+ * Modes to process "starts", "ends" and "contains" filters over String fields, check
+ * {@link QueryDslStringsConfiguration}.
+ * <p>
+ * Choose the mode matching the indexes of each field, so prefix searches (Example: starts(username : adm)) can be
+ * resolved with an index range scan instead of a full scan.
+ * <p>
+ * Prefix ranges end at the prefix with its last character incremented (Example: adm -> adn), which only contains all
+ * values starting with the prefix when the index orders values by their characters code (binary collation, Example:
+ * "C" collation or "text_pattern_ops" indexes at PostgreSQL). With other collations the range may skip values that
+ * "like" would match, so use {@link #IGNORE_CASE} for those fields.
+ */
+public enum QueryDslStringMatchMode {
+
+    /**
+     * Case-insensitive matching without index support (default):
+     * <p>
+     * - starts(username : adm) -> lower(username) like lower('adm%')
+     */
+    IGNORE_CASE,
+
+    /**
+     * Case-insensitive matching for fields with a functional index over "lower(field)". Prefix searches of ASCII values
+     * are ranges of that index, the "like" condition only discards rows already read from the range:
+     * <p>
+     * - starts(username : Adm) -> lower(username) >= 'adm' and lower(username) < 'adn' and
+     * lower(username) like lower('Adm%')
+     */
+    LOWER_CASE,
+
+    /**
+     * Case-sensitive matching for fields with a plain index. Prefix searches are ranges of that index, the "like"
+     * condition only discards rows already read from the range:
+     * <p>
+     * - starts(username : adm) -> username >= 'adm' and username < 'adn' and username like 'adm%'
+     */
+    CASE_SENSITIVE
+}
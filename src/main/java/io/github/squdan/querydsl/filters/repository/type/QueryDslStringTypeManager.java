@@ -1,17 +1,48 @@
 package io.github.squdan.querydsl.filters.repository.type;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.core.types.dsl.StringPath;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
+import io.github.squdan.querydsl.filters.util.PredicateUtils;
+import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
 
 /**
  * QueryDslTypeManager implementation to manage Strings (default if no other manager found for type to process).
+ * <p>
+ * By default, "starts", "ends" and "contains" filters are case-insensitive and equals filters are case-sensitive.
+ * Match mode of each field and case-insensitive equals are configured with {@link QueryDslStringsConfiguration}.
  */
 @Slf4j
 public final class QueryDslStringTypeManager implements QueryDslTypeManager {
 
+    // Configuration
+    private final QueryDslStringsConfiguration configuration;
+
+    /**
+     * Constructor with default configuration.
+     */
+    public QueryDslStringTypeManager() {
+        this(QueryDslStringsConfiguration.DEFAULT);
+    }
+
+    /**
+     * Constructor with received configuration.
+     *
+     * @param configuration: configuration of filters over String fields.
+     */
+    public QueryDslStringTypeManager(@NotNull final QueryDslStringsConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
     public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
         // If no other QueryDslCustomTypesManager has managed the field, then it will be treated as String
         return true;
@@ -23,8 +54,10 @@ public final class QueryDslStringTypeManager implements QueryDslTypeManager {
         // Create field path
         final StringPath path = entityPath.getString(filter.getKey());
 
-        // Parse value
-        final String value = String.valueOf(filter.getValue());
+        // Parse value, operators with multiple values parse each one of them
+        final QueryDslTypedValue<String> typedValue = filter.getTypedValue(QueryDslValueConverters.STRING);
+        final String value = typedValue.getValue();
+        final QueryDslStringMatchMode matchMode = configuration.getMatchMode(filter.getKey());
 
         // Process operator
         switch (filter.getOperator()) {
@@ -37,25 +70,31 @@ public final class QueryDslStringTypeManager implements QueryDslTypeManager {
             case EQUALS:
             case EQUALS_FUNCTION:
             case EQUALS_FUNCTION_EQ:
-                result = path.eq(value);
+                result = configuration.isIgnoreCaseEquals(filter.getKey()) ? path.equalsIgnoreCase(value) : path.eq(value);
                 break;
             case NOT_EQUALS:
             case NON_EQUALS_FUNCTION:
             case NON_EQUALS_FUNCTION_NE:
-                result = path.ne(value);
+                result = configuration.isIgnoreCaseEquals(filter.getKey()) ? path.lower().ne(Expressions.asString(value).lower()) : path.ne(value);
                 break;
             case STARTS_WITH_FUNCTION:
             case STARTS_WITH_FUNCTION_SW:
-                result = path.startsWithIgnoreCase(value);
+                result = startsWith(path, value, matchMode);
                 break;
             case ENDS_WITH_FUNCTION:
             case ENDS_WITH_FUNCTION_EW:
-                result = path.endsWithIgnoreCase(value);
+                result = QueryDslStringMatchMode.CASE_SENSITIVE == matchMode ? path.endsWith(value) : path.endsWithIgnoreCase(value);
                 break;
             case CONTAIN_FUNCTION:
             case CONTAIN_FUNCTION_C:
             case CONTAINS_FUNCTION_LIKE:
-                result = path.containsIgnoreCase(value);
+                result = QueryDslStringMatchMode.CASE_SENSITIVE == matchMode ? path.contains(value) : path.containsIgnoreCase(value);
+                break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, typedValue.getValues());
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, typedValue.getValues());
                 break;
             default:
                 log.warn("Operación '{}' no soportada para el tipo String.", filter.getOperator());
@@ -65,4 +104,40 @@ public final class QueryDslStringTypeManager implements QueryDslTypeManager {
         return result;
     }
 
+    private static BooleanExpression startsWith(final StringPath path, final String value, final QueryDslStringMatchMode matchMode) {
+        BooleanExpression result;
+
+        if (QueryDslStringMatchMode.CASE_SENSITIVE == matchMode) {
+            // Range of the field index
+            result = PredicateUtils.allOf(path.goe(value), getRangeEnd(path, value), path.startsWith(value));
+        } else if (QueryDslStringMatchMode.LOWER_CASE == matchMode) {
+            // Range of the functional index over the lower case field, both bounds are lower case values calculated
+            // here, which only match the database lower case for ASCII values
+            final StringExpression lowerPath = path.lower();
+            final String lowerValue = value.toLowerCase(Locale.ROOT);
+            result = StringUtils.isAsciiPrintable(value)
+                    ? PredicateUtils.allOf(lowerPath.goe(lowerValue), getRangeEnd(lowerPath, lowerValue), path.startsWithIgnoreCase(value))
+                    : path.startsWithIgnoreCase(value);
+        } else {
+            result = path.startsWithIgnoreCase(value);
+        }
+
+        return result;
+    }
+
+    private static BooleanExpression getRangeEnd(final StringExpression path, final String prefix) {
+        // First String after all Strings with the prefix (Example: adm -> adn), none if there is no such String
+        final StringBuilder end = new StringBuilder(prefix);
+
+        while (!end.isEmpty() && end.charAt(end.length() - 1) == Character.MAX_VALUE) {
+            end.setLength(end.length() - 1);
+        }
+
+        if (!end.isEmpty()) {
+            end.setCharAt(end.length() - 1, (char) (end.charAt(end.length() - 1) + 1));
+        }
+
+        return end.isEmpty() ? null : path.lt(end.toString());
+    }
+
 }
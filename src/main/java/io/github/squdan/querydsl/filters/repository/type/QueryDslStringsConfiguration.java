@@ -0,0 +1,76 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Configuration of filters over String fields, used by {@link QueryDslStringTypeManager}.
+ * <p>
+ * Fields are identified by their path in the entity owning them (Example: username, id.bank for accounts). To use a
+ * configuration, register a {@link QueryDslStringTypeManager} with it into the custom types manager of your
+ * repository:
+ * <pre>
+ * QueryDslTypeManagerRegistry CUSTOM_TYPES = new QueryDslTypeManagerRegistry()
+ *         .register(String.class, new QueryDslStringTypeManager(QueryDslStringsConfiguration.builder()
+ *                 .fieldMatchMode("username", QueryDslStringMatchMode.CASE_SENSITIVE)
+ *                 .ignoreCaseEqualsField("name")
+ *                 .build()));
+ * </pre>
+ */
+@Value
+@Builder(toBuilder = true)
+public class QueryDslStringsConfiguration {
+
+    /**
+     * Default configuration: case-insensitive "starts", "ends" and "contains", case-sensitive equals.
+     */
+    public static final QueryDslStringsConfiguration DEFAULT = QueryDslStringsConfiguration.builder().build();
+
+    /**
+     * Match mode of fields without a specific one.
+     */
+    @Builder.Default
+    QueryDslStringMatchMode matchMode = QueryDslStringMatchMode.IGNORE_CASE;
+
+    /**
+     * Match modes of specific fields, by field path.
+     */
+    @Singular
+    Map<String, QueryDslStringMatchMode> fieldMatchModes;
+
+    /**
+     * If true, equals and non equals filters of all fields are case-insensitive.
+     */
+    @Builder.Default
+    boolean ignoreCaseEquals = false;
+
+    /**
+     * Fields with case-insensitive equals and non equals filters, by field path.
+     */
+    @Singular
+    Set<String> ignoreCaseEqualsFields;
+
+    /**
+     * Returns the match mode of received field.
+     *
+     * @param field: field path.
+     * @return QueryDslStringMatchMode.
+     */
+    public QueryDslStringMatchMode getMatchMode(final String field) {
+        return fieldMatchModes.getOrDefault(field, matchMode);
+    }
+
+    /**
+     * Returns true if equals and non equals filters of received field are case-insensitive.
+     *
+     * @param field: field path.
+     * @return true if equals is case-insensitive.
+     */
+    public boolean isIgnoreCaseEquals(final String field) {
+        return ignoreCaseEquals || ignoreCaseEqualsFields.contains(field);
+    }
+}
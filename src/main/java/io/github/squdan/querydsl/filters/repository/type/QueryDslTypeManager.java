@@ -6,8 +6,8 @@ import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
 import io.github.squdan.querydsl.filters.repository.QueryDslPredicateBuilder;
 import io.github.squdan.querydsl.filters.repository.QueryDslRepository;
-
-import java.lang.reflect.Field;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslEntityMetadata;
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFieldMetadata;
 
 /**
  * Class to manage field types at {@link QueryDslPredicateBuilder},
@@ -40,6 +40,8 @@ public interface QueryDslTypeManager {
     /**
      * Returns Class type from las field in the path.
      * <p>
+     * Types are resolved by {@link QueryDslEntityMetadata}, so each path is resolved with reflection only once.
+     * <p>
      * Example: user.accounts.id -> UUID.class
      * Example: user.accounts -> List.class
      *
@@ -48,23 +50,9 @@ public interface QueryDslTypeManager {
      * @return Class from last field in the path.
      */
     default Class<?> getTypeFrom(final Class<?> sourceType, final String path) {
-        Class<?> result;
-
-        // Get first field
-        final String[] entityFieldsToCollection = path.split("\\.", 2);
-
-        try {
-            final Field field = sourceType.getDeclaredField(entityFieldsToCollection[0]);
-            result = field.getType();
-
-            if (entityFieldsToCollection.length == 2) {
-                result = getTypeFrom(result, entityFieldsToCollection[1]);
-            }
-        } catch (final NoSuchFieldException e) {
-            final String errorMsg = String.format("Error searching type from '%s' for class '%s'", path, sourceType.getSimpleName());
-            throw new QueryDslFiltersException(e, errorMsg);
-        }
-
-        return result;
+        return QueryDslEntityMetadata.of(sourceType).getField(path)
+                .map(QueryDslFieldMetadata::type)
+                .orElseThrow(() -> new QueryDslFiltersException(
+                        String.format("Error searching type from '%s' for class '%s'", path, sourceType.getSimpleName())));
     }
 }
@@ -0,0 +1,110 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import jakarta.validation.constraints.NotNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * QueryDslTypeManager implementation that delegates each filter to the type manager registered for its field type.
+ * <p>
+ * Type managers are searched by the exact field type first and then by its superclasses and interfaces (Example: a
+ * manager registered for Enum.class manages all Enums without own manager). Type manager found for each field type is
+ * kept, so next filters are dispatched with a single map lookup.
+ * <p>
+ * Configure it as custom types manager of your repositories to manage many custom types without chaining checks:
+ * <pre>
+ * QueryDslTypeManagerRegistry CUSTOM_TYPES = new QueryDslTypeManagerRegistry()
+ *         .register(Roles.class, new QueryDslRolesTypeManager())
+ *         .register(Money.class, new QueryDslMoneyTypeManager());
+ * </pre>
+ */
+@Slf4j
+public final class QueryDslTypeManagerRegistry implements QueryDslTypeManager {
+
+    // Configuration
+    private final Map<Class<?>, QueryDslTypeManager> typeManagers = new ConcurrentHashMap<>();
+
+    // State - Type manager found for each field type, empty if there is none
+    private final Map<Class<?>, Optional<QueryDslTypeManager>> resolvedTypeManagers = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the type manager for fields of received type and its subtypes without own type manager.
+     *
+     * @param type:        field type.
+     * @param typeManager: implementation of {@link QueryDslTypeManager} to manage filters of received type.
+     * @return QueryDslTypeManagerRegistry.
+     */
+    public QueryDslTypeManagerRegistry register(@NotNull final Class<?> type, @NotNull final QueryDslTypeManager typeManager) {
+        typeManagers.put(type, typeManager);
+
+        // Registered type may be closer to already resolved types than their current type managers
+        resolvedTypeManagers.clear();
+
+        return this;
+    }
+
+    /**
+     * Returns the type manager for fields of received type.
+     *
+     * @param type: field type.
+     * @return Optional with QueryDslTypeManager, empty if there is no type manager for received type.
+     */
+    public Optional<QueryDslTypeManager> find(@NotNull final Class<?> type) {
+        return resolvedTypeManagers.computeIfAbsent(type, this::resolve);
+    }
+
+    public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+        return find(getTypeFrom(entityType, filter.getKey())).isPresent();
+    }
+
+    public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+        final Class<?> type = getTypeFrom(entityType, filter.getKey());
+        final Optional<QueryDslTypeManager> typeManager = find(type);
+
+        if (typeManager.isEmpty()) {
+            final String errorMsg = String.format("There is no type manager registered for type '%s'.", type.getSimpleName());
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return typeManager.get().manage(entityType, entityPath, filter);
+    }
+
+    private Optional<QueryDslTypeManager> resolve(final Class<?> type) {
+        QueryDslTypeManager result = null;
+
+        // Search by hierarchy levels: type, then its superclass and interfaces, and so on
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        final Set<Class<?>> visited = new HashSet<>();
+        pending.add(type);
+
+        while (Objects.isNull(result) && !pending.isEmpty()) {
+            final Class<?> current = pending.poll();
+
+            if (visited.add(current)) {
+                result = typeManagers.get(current);
+
+                if (Objects.nonNull(current.getSuperclass())) {
+                    pending.add(current.getSuperclass());
+                }
+
+                pending.addAll(List.of(current.getInterfaces()));
+            }
+        }
+
+        return Optional.ofNullable(result);
+    }
+}
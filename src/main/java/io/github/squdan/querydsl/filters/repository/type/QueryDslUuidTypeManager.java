@@ -5,6 +5,8 @@ import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.core.types.dsl.SimplePath;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.UUID;
@@ -25,20 +27,9 @@ public final class QueryDslUuidTypeManager implements QueryDslTypeManager {
         // Create field path
         final SimplePath<UUID> path = entityPath.getSimple(filter.getKey(), UUID.class);
 
-        // Parse value
-        UUID value;
-
-        try {
-            value = UUID.fromString(String.valueOf(filter.getValue()));
-        } catch (final IllegalArgumentException e) {
-            final String errorMsg = String.format(
-                    "Operation '%s' error, value '%s' couldn't be parsed.",
-                    filter.getOperator(),
-                    filter.getValue()
-            );
-            log.error(errorMsg);
-            throw new QueryDslFiltersException(errorMsg);
-        }
+        // Parse value, operators with multiple values parse each one of them
+        final QueryDslTypedValue<UUID> typedValue = filter.getTypedValue(QueryDslValueConverters.UUID);
+        final UUID value = typedValue.getValue();
 
         // Process operator
         switch (filter.getOperator()) {
@@ -58,6 +49,12 @@ public final class QueryDslUuidTypeManager implements QueryDslTypeManager {
             case NON_EQUALS_FUNCTION_NE:
                 result = path.ne(value);
                 break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, typedValue.getValues());
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, typedValue.getValues());
+                break;
             default:
                 final String errorMsg = String.format("Operation '%s' not supported for type 'UUID'.", filter.getOperator());
                 log.error(errorMsg);
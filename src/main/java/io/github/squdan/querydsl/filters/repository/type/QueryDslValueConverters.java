@@ -0,0 +1,258 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
+import io.github.squdan.querydsl.filters.util.DateTimeFormats;
+import io.github.squdan.querydsl.filters.util.DateTimeUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * {@link QueryDslValueConverter} implementations used by the built-in {@link QueryDslTypeManager} implementations.
+ * <p>
+ * Converters are shared instances, so values converted by one manager are reused by the rest of managers and caches.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class QueryDslValueConverters {
+
+    // Converters - Basic types
+    public static final QueryDslValueConverter<String> STRING = of(String.class, String::valueOf);
+    public static final QueryDslValueConverter<Boolean> BOOLEAN = of(Boolean.class, v -> Boolean.parseBoolean(v.toString()));
+    public static final QueryDslValueConverter<UUID> UUID = of(java.util.UUID.class, v -> java.util.UUID.fromString(v.toString()));
+
+    // Converters - Dates, parsed with the formats of DateTimeUtils and converted to the exact field type
+    public static final QueryDslValueConverter<Instant> INSTANT = of(Instant.class, v -> toInstant(v, DateTimeUtils.getFormats()));
+    public static final QueryDslValueConverter<LocalDate> LOCAL_DATE = of(LocalDate.class, v -> toLocalDate(v, DateTimeUtils.getFormats()));
+    private static final Map<Class<?>, QueryDslValueConverter<?>> TEMPORAL_CONVERTERS = temporalConverters(INSTANT, LOCAL_DATE);
+
+    // Converters - Numbers, values are converted to the exact field type, so they are bound without database casts
+    public static final QueryDslValueConverter<Double> DOUBLE = of(Double.class, v -> Double.parseDouble(v.toString()));
+    private static final Map<Class<?>, QueryDslValueConverter<?>> NUMBER_CONVERTERS = Map.of(
+            BigDecimal.class, of(BigDecimal.class, v -> new BigDecimal(v.toString())),
+            BigInteger.class, of(BigInteger.class, QueryDslValueConverters::toBigInteger),
+            Long.class, of(Long.class, v -> toLong(v, Long.MIN_VALUE, Long.MAX_VALUE)),
+            Integer.class, of(Integer.class, v -> (int) toLong(v, Integer.MIN_VALUE, Integer.MAX_VALUE)),
+            Short.class, of(Short.class, v -> (short) toLong(v, Short.MIN_VALUE, Short.MAX_VALUE)),
+            Byte.class, of(Byte.class, v -> (byte) toLong(v, Byte.MIN_VALUE, Byte.MAX_VALUE)),
+            Float.class, of(Float.class, v -> Float.parseFloat(v.toString())),
+            Double.class, DOUBLE
+    );
+
+    /**
+     * Returns the converter to received number type.
+     *
+     * @param numberType: number type (BigDecimal, Long, Integer...).
+     * @param <N>:        number type.
+     * @return QueryDslValueConverter.
+     */
+    @SuppressWarnings("unchecked")
+    public static <N extends Number> QueryDslValueConverter<N> number(final Class<N> numberType) {
+        final QueryDslValueConverter<N> result = (QueryDslValueConverter<N>) NUMBER_CONVERTERS.get(numberType);
+
+        if (Objects.isNull(result)) {
+            final String errorMsg = String.format("Number type not supported '%s'.", numberType.getSimpleName());
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the converters to supported date types (Instant, LocalDateTime, OffsetDateTime, ZonedDateTime, Date,
+     * Timestamp, LocalDate and java.sql.Date) by date type, parsing values with the formats of {@link DateTimeUtils}.
+     * <p>
+     * Values are read as UTC date times ignoring their offset, as {@link DateTimeUtils#toInstantUtc(String)} does, and
+     * dates configured in java keep their instant.
+     *
+     * @return Map of converters by date type.
+     */
+    public static Map<Class<?>, QueryDslValueConverter<?>> temporalConverters() {
+        return TEMPORAL_CONVERTERS;
+    }
+
+    /**
+     * Returns the converters to supported date types by date type, parsing values with received formats.
+     *
+     * @param formats: formats to parse values.
+     * @return Map of converters by date type.
+     */
+    public static Map<Class<?>, QueryDslValueConverter<?>> temporalConverters(@NotNull final DateTimeFormats formats) {
+        return temporalConverters(of(Instant.class, v -> toInstant(v, formats)), of(LocalDate.class, v -> toLocalDate(v, formats)));
+    }
+
+    /**
+     * Generates a converter from a conversion function.
+     *
+     * @param type:      converted value type.
+     * @param converter: conversion function, it may return null or throw IllegalArgumentException on wrong values.
+     * @param <V>:       converted value type.
+     * @return QueryDslValueConverter.
+     */
+    public static <V> QueryDslValueConverter<V> of(final Class<V> type, final Function<Object, V> converter) {
+        return new FunctionValueConverter<>(type, converter);
+    }
+
+    /**
+     * Returns true if there is a converter to received number type.
+     *
+     * @param numberType: number type.
+     * @return true if number type is supported.
+     */
+    public static boolean isNumberSupported(final Class<?> numberType) {
+        return NUMBER_CONVERTERS.containsKey(numberType);
+    }
+
+    /**
+     * Returns true if received number type has only integer values (Integer, Long, BigInteger...).
+     *
+     * @param numberType: number type.
+     * @return true if number type is integral.
+     */
+    public static boolean isIntegral(final Class<?> numberType) {
+        return numberType == Long.class || numberType == Integer.class || numberType == Short.class
+                || numberType == Byte.class || numberType == BigInteger.class;
+    }
+
+    private static Map<Class<?>, QueryDslValueConverter<?>> temporalConverters(final QueryDslValueConverter<Instant> instantConverter,
+                                                                              final QueryDslValueConverter<LocalDate> localDateConverter) {
+        return Map.of(
+                Instant.class, instantConverter,
+                LocalDateTime.class, of(LocalDateTime.class, v -> convert(instantConverter, v, instant -> LocalDateTime.ofInstant(instant, ZoneOffset.UTC))),
+                OffsetDateTime.class, of(OffsetDateTime.class, v -> convert(instantConverter, v, instant -> OffsetDateTime.ofInstant(instant, ZoneOffset.UTC))),
+                ZonedDateTime.class, of(ZonedDateTime.class, v -> convert(instantConverter, v, instant -> ZonedDateTime.ofInstant(instant, ZoneOffset.UTC))),
+                Date.class, of(Date.class, v -> convert(instantConverter, v, Date::from)),
+                Timestamp.class, of(Timestamp.class, v -> convert(instantConverter, v, Timestamp::from)),
+                LocalDate.class, localDateConverter,
+                java.sql.Date.class, of(java.sql.Date.class, v -> convert(localDateConverter, v, java.sql.Date::valueOf))
+        );
+    }
+
+    private static <S, V> V convert(final QueryDslValueConverter<S> converter, final Object value, final Function<S, V> mapper) {
+        final S result = converter.convert(value);
+        return Objects.isNull(result) ? null : mapper.apply(result);
+    }
+
+    private static Instant toInstant(final Object value, final DateTimeFormats formats) {
+        Instant result;
+
+        // Dates configured in java are converted without parsing them, the rest are parsed
+        if (value instanceof Instant instant) {
+            result = instant;
+        } else if (value instanceof OffsetDateTime offsetDateTime) {
+            result = offsetDateTime.toInstant();
+        } else if (value instanceof ZonedDateTime zonedDateTime) {
+            result = zonedDateTime.toInstant();
+        } else if (value instanceof Timestamp timestamp) {
+            result = timestamp.toInstant();
+        } else if (value instanceof Date date) {
+            result = Instant.ofEpochMilli(date.getTime());
+        } else {
+            result = formats.toInstantUtc(value.toString());
+        }
+
+        return result;
+    }
+
+    private static LocalDate toLocalDate(final Object value, final DateTimeFormats formats) {
+        LocalDate result;
+
+        if (value instanceof LocalDate localDate) {
+            result = localDate;
+        } else if (value instanceof java.sql.Date date) {
+            result = date.toLocalDate();
+        } else {
+            result = formats.toLocalDate(value.toString());
+        }
+
+        return result;
+    }
+
+    private static long toLong(final Object value, final long min, final long max) {
+        long result;
+
+        // Integer values are parsed without intermediate objects, the rest must be integers into the type range
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            result = ((Number) value).longValue();
+        } else {
+            final String text = value.toString();
+
+            try {
+                result = Long.parseLong(text);
+            } catch (final NumberFormatException e) {
+                result = toLongExact(toBigDecimal(text));
+            }
+        }
+
+        if (result < min || result > max) {
+            throw new NumberFormatException(String.format("Value '%s' out of range.", value));
+        }
+
+        return result;
+    }
+
+    private static long toLongExact(final BigDecimal value) {
+        long result;
+
+        try {
+            result = value.longValueExact();
+        } catch (final ArithmeticException e) {
+            throw new NumberFormatException(String.format("Value '%s' is not an integer into range.", value));
+        }
+
+        return result;
+    }
+
+    private static BigInteger toBigInteger(final Object value) {
+        BigInteger result;
+
+        try {
+            result = value instanceof BigInteger integer ? integer : toBigDecimal(value).toBigIntegerExact();
+        } catch (final ArithmeticException e) {
+            throw new NumberFormatException(String.format("Value '%s' is not an integer.", value));
+        }
+
+        return result;
+    }
+
+    private static BigDecimal toBigDecimal(final Object value) {
+        return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+    }
+
+    @RequiredArgsConstructor
+    private static final class FunctionValueConverter<V> implements QueryDslValueConverter<V> {
+
+        // Configuration
+        private final Class<V> type;
+        private final Function<Object, V> converter;
+
+        @Override
+        public Class<V> getType() {
+            return type;
+        }
+
+        @Override
+        public V convert(final Object value) {
+            return converter.apply(value);
+        }
+    }
+}
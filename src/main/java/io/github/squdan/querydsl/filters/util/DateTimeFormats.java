@@ -0,0 +1,226 @@
+package io.github.squdan.querydsl.filters.util;
+
+import jakarta.validation.constraints.NotNull;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable set of date formats used to parse from String to Date.
+ * <p>
+ * ISO values (Example: 2020-06-14, 2020-06-14T00:04:00Z) are recognized by their shape and parsed without formatters.
+ * Values of other shapes are parsed with default formatters and then with the formats added to the set, which are
+ * grouped by the shape of values they parse, so each value is only parsed with the formatters that may parse it.
+ * <p>
+ * Adding formats returns a new set, so sets can be shared between threads without locks. {@link DateTimeUtils} keeps
+ * the set used by default, and repositories may use their own set configuring a
+ * {@link io.github.squdan.querydsl.filters.repository.type.QueryDslDateTypeManager} with it.
+ */
+public final class DateTimeFormats {
+
+    /**
+     * Set without formats added, only default formats are supported.
+     */
+    public static final DateTimeFormats DEFAULT = new DateTimeFormats(List.of(), List.of());
+
+    // Default date formatters, only used for values without ISO shape
+    private static final List<DateTimeFormatter> DEFAULT_DATE_FORMATTERS = List.of(
+            DateTimeFormatter.ISO_DATE
+    );
+
+    // Default date time formatters, only used for values without ISO shape
+    private static final List<DateTimeFormatter> DEFAULT_DATE_TIME_FORMATTERS = List.of(
+            DateTimeFormatter.ISO_DATE_TIME,
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+    );
+
+    // Configuration - Formats added
+    private final List<DateTimeFormatter> dateFormatters;
+    private final List<DateTimeFormatter> dateTimeFormatters;
+
+    // Configuration - Formats added by shape of values
+    private final DateTimeFormatterDispatch dateDispatch;
+    private final DateTimeFormatterDispatch dateTimeDispatch;
+
+    private DateTimeFormats(final List<DateTimeFormatter> dateFormatters, final List<DateTimeFormatter> dateTimeFormatters) {
+        this.dateFormatters = List.copyOf(dateFormatters);
+        this.dateTimeFormatters = List.copyOf(dateTimeFormatters);
+        this.dateDispatch = new DateTimeFormatterDispatch(this.dateFormatters);
+        this.dateTimeDispatch = new DateTimeFormatterDispatch(this.dateTimeFormatters);
+    }
+
+    /**
+     * Returns a new set with current formats and received date format.
+     *
+     * @param newDateFormat: new format to support.
+     * @return DateTimeFormats.
+     */
+    public DateTimeFormats withDateFormat(@NotNull final DateTimeFormatter newDateFormat) {
+        return new DateTimeFormats(append(dateFormatters, newDateFormat), dateTimeFormatters);
+    }
+
+    /**
+     * Returns a new set with current formats and received date time format.
+     *
+     * @param newDateTimeFormat: new format to support.
+     * @return DateTimeFormats.
+     */
+    public DateTimeFormats withDateTimeFormat(@NotNull final DateTimeFormatter newDateTimeFormat) {
+        return new DateTimeFormats(dateFormatters, append(dateTimeFormatters, newDateTimeFormat));
+    }
+
+    /**
+     * Returns received String as Instant.
+     * <p>
+     * If null, empty String or a value without supported format is received then this method will return null.
+     *
+     * @param date (java.lang.String) to parse to Date.
+     * @return (java.time.Instant) Date.
+     */
+    public Instant toInstantUtc(final String date) {
+        Instant result = null;
+
+        if (StringUtils.isNotBlank(date)) {
+            // Try to parse from String to LocalDateTime
+            final LocalDateTime localDateTime = toLocalDateTime(date);
+
+            if (Objects.nonNull(localDateTime)) {
+                result = localDateTime.atZone(ZoneOffset.UTC).toInstant();
+            }
+
+            // Try to parse from String to LocalDate
+            if (Objects.isNull(result)) {
+                final LocalDate localDate = toLocalDate(date);
+
+                if (Objects.nonNull(localDate)) {
+                    result = localDate.atStartOfDay().toInstant(ZoneOffset.UTC);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns received String as LocalDateTime.
+     * <p>
+     * If null, empty String or a value without supported format is received then this method will return null.
+     *
+     * @param date (java.lang.String) to parse to Date.
+     * @return (java.time.LocalDateTime) Date.
+     */
+    public LocalDateTime toLocalDateTime(final String date) {
+        LocalDateTime result = null;
+
+        if (StringUtils.isNotBlank(date)) {
+            final IsoDateTimeParser.Shape shape = IsoDateTimeParser.getShape(date);
+
+            // ISO date times are parsed directly, ISO dates can't be parsed by default formatters
+            if (shape == IsoDateTimeParser.Shape.DATE_TIME) {
+                result = IsoDateTimeParser.toLocalDateTime(date);
+            } else if (shape == IsoDateTimeParser.Shape.OTHER) {
+                result = toLocalDateTime(DEFAULT_DATE_TIME_FORMATTERS, date);
+            }
+
+            if (Objects.isNull(result)) {
+                result = toLocalDateTime(dateTimeDispatch.getFormatters(date), date);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns received String as LocalDate.
+     * <p>
+     * If null, empty String or a value without supported format is received then this method will return null.
+     *
+     * @param date (java.lang.String) to parse to Date.
+     * @return (java.time.LocalDate) Date.
+     */
+    public LocalDate toLocalDate(final String date) {
+        LocalDate result = null;
+
+        if (StringUtils.isNotBlank(date)) {
+            final IsoDateTimeParser.Shape shape = IsoDateTimeParser.getShape(date);
+
+            // ISO dates are parsed directly, ISO date times can't be parsed by default formatters
+            if (shape == IsoDateTimeParser.Shape.DATE) {
+                result = IsoDateTimeParser.toLocalDate(date);
+            } else if (shape == IsoDateTimeParser.Shape.OTHER) {
+                result = toLocalDate(DEFAULT_DATE_FORMATTERS, date);
+            }
+
+            if (Objects.isNull(result)) {
+                result = toLocalDate(dateDispatch.getFormatters(date), date);
+            }
+        }
+
+        return result;
+    }
+
+    private static List<DateTimeFormatter> append(final List<DateTimeFormatter> formatters, final DateTimeFormatter newFormatter) {
+        final List<DateTimeFormatter> result = new ArrayList<>(formatters);
+        result.add(Objects.requireNonNull(newFormatter));
+        return result;
+    }
+
+    private static LocalDateTime toLocalDateTime(final List<DateTimeFormatter> formatters, final String date) {
+        LocalDateTime result = null;
+
+        for (DateTimeFormatter formatter : formatters) {
+            if (Objects.isNull(result)) {
+                result = toLocalDateTime(formatter, date);
+            }
+        }
+
+        return result;
+    }
+
+    private static LocalDate toLocalDate(final List<DateTimeFormatter> formatters, final String date) {
+        LocalDate result = null;
+
+        for (DateTimeFormatter formatter : formatters) {
+            if (Objects.isNull(result)) {
+                result = toLocalDate(formatter, date);
+            }
+        }
+
+        return result;
+    }
+
+    private static LocalDateTime toLocalDateTime(final DateTimeFormatter formatter, final String date) {
+        LocalDateTime result = null;
+
+        try {
+            result = LocalDateTime.parse(date, formatter);
+        } catch (final DateTimeParseException e) {
+            // Do nothing
+        }
+
+        return result;
+    }
+
+    private static LocalDate toLocalDate(final DateTimeFormatter formatter, final String date) {
+        LocalDate result = null;
+
+        try {
+            result = LocalDate.parse(date, formatter);
+        } catch (final DateTimeParseException e) {
+            // Do nothing
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.squdan.querydsl.filters.util;
+
+import java.time.DateTimeException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable dispatch table from the shape of a value to the formatters that may parse it, used by
+ * {@link DateTimeFormats}.
+ * <p>
+ * Shape of a value is the value with digit runs replaced by '0', letter runs replaced by 'a' and signs before numbers
+ * removed (Example: 14/06/2020 10:00 -> 0/0/0 0:0). Formatters only built from numbers, fractions, offsets and
+ * literals (Example: dd/MM/yyyy HH:mm) parse values of a single shape, so they are only tried for values of their
+ * shape. The rest of formatters (optional sections, texts, zones...) are tried for all values.
+ */
+final class DateTimeFormatterDispatch {
+
+    // Constants - Dates formatted to get the shape of formatters, with different widths, fractions and offsets
+    private static final List<TemporalAccessor> REFERENCE_DATES = List.of(
+            ZonedDateTime.of(2020, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC),
+            ZonedDateTime.of(2021, 12, 28, 13, 45, 56, 789_000_000, ZoneOffset.ofHours(2)),
+            ZonedDateTime.of(-999, 10, 10, 20, 30, 40, 123_456_789, ZoneOffset.ofHoursMinutes(-5, -30))
+    );
+
+    // Constants - Formatter elements with fixed shape and their groups, literals are removed before checking them
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern FIXED_SHAPE_ELEMENTS = Pattern.compile("(?:(?:Reduced)?Value|Fraction|Offset|ParseCaseSensitive)\\([^()\\[\\]]*\\)|[()]");
+
+    // Configuration
+    private final Map<String, List<DateTimeFormatter>> formattersByShape;
+    private final List<DateTimeFormatter> formattersWithoutShape;
+
+    /**
+     * Constructor, formatters keep their order into the dispatch table.
+     *
+     * @param formatters: formatters to dispatch.
+     */
+    DateTimeFormatterDispatch(final List<DateTimeFormatter> formatters) {
+        final Map<String, List<DateTimeFormatter>> byShape = new HashMap<>();
+        final List<DateTimeFormatter> withoutShape = new ArrayList<>();
+
+        for (DateTimeFormatter formatter : formatters) {
+            final String shape = getShape(formatter);
+
+            if (Objects.isNull(shape)) {
+                // Formatters without shape are also candidates of every shape
+                withoutShape.add(formatter);
+                byShape.values().forEach(candidates -> candidates.add(formatter));
+            } else {
+                byShape.computeIfAbsent(shape, s -> new ArrayList<>(withoutShape)).add(formatter);
+            }
+        }
+
+        this.formattersByShape = new HashMap<>();
+        byShape.forEach((shape, candidates) -> this.formattersByShape.put(shape, List.copyOf(candidates)));
+        this.formattersWithoutShape = List.copyOf(withoutShape);
+    }
+
+    /**
+     * Returns the formatters that may parse received value.
+     *
+     * @param value: value to parse.
+     * @return List of formatters, in registration order.
+     */
+    List<DateTimeFormatter> getFormatters(final String value) {
+        return formattersByShape.isEmpty() ? formattersWithoutShape : formattersByShape.getOrDefault(getShape(value), formattersWithoutShape);
+    }
+
+    /**
+     * Returns the shape of received value.
+     *
+     * @param value: value to classify.
+     * @return Shape.
+     */
+    static String getShape(final CharSequence value) {
+        final StringBuilder result = new StringBuilder(value.length());
+        char previous = ' ';
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            final char next = i + 1 < value.length() ? value.charAt(i + 1) : ' ';
+            final boolean sign = (c == '+' || c == '-') && Character.isDigit(next) && !Character.isDigit(previous);
+
+            if (Character.isDigit(c)) {
+                appendClass(result, '0');
+            } else if (Character.isLetter(c)) {
+                appendClass(result, 'a');
+            } else if (c == '+') {
+                result.append(sign ? "" : "-");
+            } else if (!sign) {
+                result.append(c);
+            }
+
+            previous = c;
+        }
+
+        return result.toString();
+    }
+
+    private static String getShape(final DateTimeFormatter formatter) {
+        String result = null;
+
+        if (FIXED_SHAPE_ELEMENTS.matcher(LITERALS.matcher(formatter.toString()).replaceAll("")).replaceAll("").isEmpty()) {
+            try {
+                final List<String> shapes = REFERENCE_DATES.stream().map(date -> getShape(formatter.format(date))).distinct().toList();
+                result = shapes.size() == 1 ? shapes.get(0) : null;
+            } catch (final DateTimeException e) {
+                // Formatters that can't print reference dates are tried for all values
+            }
+        }
+
+        return result;
+    }
+
+    private static void appendClass(final StringBuilder shape, final char charClass) {
+        if (shape.isEmpty() || shape.charAt(shape.length() - 1) != charClass) {
+            shape.append(charClass);
+        }
+    }
+}
@@ -1,17 +1,18 @@
 package io.github.squdan.querydsl.filters.util;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 
-import java.time.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Utility class to parse from String to Date.
@@ -19,36 +20,25 @@ import java.util.TimeZone;
  * Multiple formats are supported by default.
  * <p>
  * Users can add their own formats using method: DateTimeUtils.addDateTimeFormat(DateTimeFormatter)
+ * <p>
+ * Formats are kept in an immutable {@link DateTimeFormats} replaced when a format is added, so formats can be added
+ * while other threads are parsing values, and parsing values doesn't take locks. See {@link DateTimeFormats} to know
+ * how values are parsed.
  */
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DateTimeUtils {
 
-    // Supported date formatters
-    private final static List<DateTimeFormatter> DATE_FORMATTERS = new ArrayList<>(
-            List.of(
-                    DateTimeFormatter.ISO_DATE
-            )
-    );
-
-    // Supported date time formatters
-    private final static List<DateTimeFormatter> DATE_TIME_FORMATTERS = new ArrayList<>(
-            List.of(
-                    DateTimeFormatter.ISO_DATE_TIME,
-                    DateTimeFormatter.ISO_OFFSET_DATE_TIME,
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"),
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"),
-                    DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
-            )
-    );
+    // Formats used by default
+    private static final AtomicReference<DateTimeFormats> FORMATS = new AtomicReference<>(DateTimeFormats.DEFAULT);
 
     /**
      * Adds an extra DateTimeFormatter to support new format when parsing from String-Instant.
      *
      * @param newDateFormat: new format to support.
      */
-    public static void addDateFormat(final DateTimeFormatter newDateFormat) {
-        DATE_FORMATTERS.add(newDateFormat);
+    public static void addDateFormat(@NotNull final DateTimeFormatter newDateFormat) {
+        FORMATS.updateAndGet(formats -> formats.withDateFormat(newDateFormat));
     }
 
     /**
@@ -56,8 +46,17 @@ public final class DateTimeUtils {
      *
      * @param newDateTimeFormat: new format to support.
      */
-    public static void addDateTimeFormat(final DateTimeFormatter newDateTimeFormat) {
-        DATE_TIME_FORMATTERS.add(newDateTimeFormat);
+    public static void addDateTimeFormat(@NotNull final DateTimeFormatter newDateTimeFormat) {
+        FORMATS.updateAndGet(formats -> formats.withDateTimeFormat(newDateTimeFormat));
+    }
+
+    /**
+     * Returns the formats used by default, they may be extended to configure formats of a single repository.
+     *
+     * @return DateTimeFormats.
+     */
+    public static DateTimeFormats getFormats() {
+        return FORMATS.get();
     }
 
     public static void setTimezone(final ZoneId zoneId) {
@@ -81,27 +80,7 @@ public final class DateTimeUtils {
      * @return (java.time.LocalDateTime) Date.
      */
     public static Instant toInstantUtc(final String date) {
-        Instant result = null;
-
-        if (StringUtils.isNotBlank(date)) {
-            // Try to parse from String to LocalDateTime
-            final LocalDateTime localDateTime = toLocalDateTime(date);
-
-            if (Objects.nonNull(localDateTime)) {
-                result = localDateTime.atZone(ZoneOffset.UTC).toInstant();
-            }
-
-            // Try to parse from String to LocalDate
-            if (Objects.isNull(result)) {
-                final LocalDate localDate = toLocalDate(date);
-
-                if (Objects.nonNull(localDate)) {
-                    result = localDate.atStartOfDay().toInstant(ZoneOffset.UTC);
-                }
-            }
-        }
-
-        return result;
+        return FORMATS.get().toInstantUtc(date);
     }
 
     /**
@@ -115,17 +94,7 @@ public final class DateTimeUtils {
      * @return (java.time.LocalDateTime) Date.
      */
     public static LocalDateTime toLocalDateTime(final String date) {
-        LocalDateTime result = null;
-
-        if (StringUtils.isNotBlank(date)) {
-            for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
-                if (Objects.isNull(result)) {
-                    result = toLocalDateTime(formatter, date);
-                }
-            }
-        }
-
-        return result;
+        return FORMATS.get().toLocalDateTime(date);
     }
 
     /**
@@ -139,40 +108,6 @@ public final class DateTimeUtils {
      * @return (java.time.LocalTime) Date.
      */
     public static LocalDate toLocalDate(final String date) {
-        LocalDate result = null;
-
-        if (StringUtils.isNotBlank(date)) {
-            for (DateTimeFormatter formatter : DATE_FORMATTERS) {
-                if (Objects.isNull(result)) {
-                    result = toLocalDate(formatter, date);
-                }
-            }
-        }
-
-        return result;
-    }
-
-    private static LocalDateTime toLocalDateTime(final DateTimeFormatter formatter, final String date) {
-        LocalDateTime result = null;
-
-        try {
-            result = LocalDateTime.parse(date, formatter);
-        } catch (final DateTimeParseException e) {
-            // Do nothing
-        }
-
-        return result;
-    }
-
-    private static LocalDate toLocalDate(final DateTimeFormatter formatter, final String date) {
-        LocalDate result = null;
-
-        try {
-            result = LocalDate.parse(date, formatter);
-        } catch (final DateTimeParseException e) {
-            // Do nothing
-        }
-
-        return result;
+        return FORMATS.get().toLocalDate(date);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package io.github.squdan.querydsl.filters.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.SimpleExpression;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Utility class to generate "in" and "not in" predicates.
+ * <p>
+ * Databases and Hibernate cache a query plan for each number of parameters, so values are split in chunks of
+ * "chunkSize" values and the last chunk is padded (repeating its last value) to the next power of 2. This way lists of
+ * any size generate at most log2(chunkSize) + 1 different parameter numbers per chunk.
+ * <p>
+ * - in: value in (chunk 1) or value in (chunk 2)...
+ * - notIn: value not in (chunk 1) and value not in (chunk 2)...
+ * <p>
+ * Users can change the chunk size using method: InClauseUtils.setChunkSize(int)
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InClauseUtils {
+
+    // Configuration - Maximum number of values in a single "in" clause
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+    private static volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Configures maximum number of values in a single "in" clause, bigger lists are split in multiple clauses.
+     *
+     * @param newChunkSize: maximum number of values per clause, must be greater than 0.
+     */
+    public static void setChunkSize(final int newChunkSize) {
+        if (newChunkSize <= 0) {
+            final String errorMsg = String.format("In clause chunk size must be greater than 0, received '%s'.", newChunkSize);
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        chunkSize = newChunkSize;
+    }
+
+    /**
+     * Returns configured maximum number of values in a single "in" clause.
+     *
+     * @return chunk size.
+     */
+    public static int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Generates predicate matching when path value is one of the received values.
+     *
+     * @param filter: filter processed, used to report errors.
+     * @param path:   QueryDsl path to compare.
+     * @param values: values to search.
+     * @param <T>:    value type.
+     * @return BooleanExpression.
+     */
+    public static <T> BooleanExpression in(final QueryDslFilter filter, final SimpleExpression<T> path, final Collection<T> values) {
+        return PredicateUtils.anyOf(getChunks(filter, values).stream().map(path::in).toList());
+    }
+
+    /**
+     * Generates predicate matching when path value is none of the received values.
+     *
+     * @param filter: filter processed, used to report errors.
+     * @param path:   QueryDsl path to compare.
+     * @param values: values to exclude.
+     * @param <T>:    value type.
+     * @return BooleanExpression.
+     */
+    public static <T> BooleanExpression notIn(final QueryDslFilter filter, final SimpleExpression<T> path, final Collection<T> values) {
+        return PredicateUtils.allOf(getChunks(filter, values).stream().map(path::notIn).toList());
+    }
+
+    /**
+     * Splits received values in chunks of configured size, padding the last one to the next power of 2.
+     *
+     * @param filter: filter processed, used to report errors.
+     * @param values: values to split.
+     * @param <T>:    value type.
+     * @return List of chunks.
+     */
+    public static <T> List<List<T>> getChunks(final QueryDslFilter filter, final Collection<T> values) {
+        if (CollectionUtils.isEmpty(values) || values.stream().anyMatch(Objects::isNull)) {
+            final String errorMsg = String.format("Operation '%s' error, values '%s' must be a non empty list without nulls.",
+                    filter.getOperator(), filter.getValue());
+            log.error(errorMsg);
+            throw new QueryDslFiltersException(errorMsg);
+        }
+
+        // Repeated values don't change the result
+        final List<T> distinctValues = new ArrayList<>(new LinkedHashSet<>(values));
+        final int currentChunkSize = chunkSize;
+        final List<List<T>> result = new ArrayList<>();
+
+        for (int start = 0; start < distinctValues.size(); start += currentChunkSize) {
+            final List<T> chunk = new ArrayList<>(distinctValues.subList(start, Math.min(start + currentChunkSize, distinctValues.size())));
+            final int paddedSize = Math.min(currentChunkSize, getNextPowerOfTwo(chunk.size()));
+            final T lastValue = chunk.get(chunk.size() - 1);
+
+            while (chunk.size() < paddedSize) {
+                chunk.add(lastValue);
+            }
+
+            result.add(chunk);
+        }
+
+        return result;
+    }
+
+    private static int getNextPowerOfTwo(final int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        return highestOneBit == value ? value : highestOneBit << 1;
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.squdan.querydsl.filters.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Parser of ISO dates (Example: 2020-06-14) and date times (Example: 2020-06-14T00:04:00.123+02:00) without
+ * DateTimeFormatter, used by {@link DateTimeFormats}.
+ * <p>
+ * Values are classified by their length and separator positions, so values with a known shape are parsed reading their
+ * digits and wrong values are rejected without exceptions. Values of other shapes must be parsed with formatters.
+ * Results are the same as parsing with DateTimeFormatter.ISO_DATE_TIME / ISO_DATE: offsets are validated but not
+ * applied.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class IsoDateTimeParser {
+
+    // Constants
+    private static final int DATE_LENGTH = 10;
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+    private static final int[] FRACTION_MULTIPLIERS = {1, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    /**
+     * Shapes of values.
+     */
+    enum Shape {
+        /**
+         * ISO date: yyyy-MM-dd.
+         */
+        DATE,
+
+        /**
+         * ISO date time: yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]][Z|+HH:MM[:ss]].
+         */
+        DATE_TIME,
+
+        /**
+         * Any other value, it may be parsed by formatters.
+         */
+        OTHER
+    }
+
+    /**
+     * Returns the shape of received value.
+     *
+     * @param value: value to classify.
+     * @return Shape.
+     */
+    static Shape getShape(final String value) {
+        Shape result = Shape.OTHER;
+
+        if (isDate(value)) {
+            if (value.length() == DATE_LENGTH) {
+                result = Shape.DATE;
+            } else if (getDateTimeEnd(value) == value.length()) {
+                result = Shape.DATE_TIME;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses a value with shape {@link Shape#DATE}.
+     *
+     * @param value: value to parse.
+     * @return LocalDate, null if the value isn't a valid date (Example: 2020-02-30).
+     */
+    static LocalDate toLocalDate(final String value) {
+        LocalDate result = null;
+
+        final int year = getNumber(value, 0, 4);
+        final int month = getNumber(value, 5, 2);
+        final int day = getNumber(value, 8, 2);
+
+        if (isValidDate(year, month, day)) {
+            result = LocalDate.of(year, month, day);
+        }
+
+        return result;
+    }
+
+    /**
+     * Parses a value with shape {@link Shape#DATE_TIME}.
+     *
+     * @param value: value to parse.
+     * @return LocalDateTime, null if the value isn't a valid date time (Example: 2020-06-14T25:00).
+     */
+    static LocalDateTime toLocalDateTime(final String value) {
+        LocalDateTime result = null;
+
+        final int year = getNumber(value, 0, 4);
+        final int month = getNumber(value, 5, 2);
+        final int day = getNumber(value, 8, 2);
+        final int hour = getNumber(value, 11, 2);
+        final int minute = getNumber(value, 14, 2);
+        int second = 0;
+        int nano = 0;
+        int position = 16;
+
+        // Optional seconds and fraction
+        if (position < value.length() && value.charAt(position) == ':') {
+            second = getNumber(value, position + 1, 2);
+            position += 3;
+
+            if (position < value.length() && value.charAt(position) == '.') {
+                final int digits = getDigits(value, position + 1);
+                nano = getNumber(value, position + 1, digits) * FRACTION_MULTIPLIERS[digits];
+                position += digits + 1;
+            }
+        }
+
+        if (isValidDate(year, month, day) && hour <= 23 && minute <= 59 && second <= 59 && isValidOffset(value, position)) {
+            result = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+        }
+
+        return result;
+    }
+
+    private static boolean isDate(final String value) {
+        return value.length() >= DATE_LENGTH && isDigits(value, 0, 4) && value.charAt(4) == '-' && isDigits(value, 5, 2)
+                && value.charAt(7) == '-' && isDigits(value, 8, 2);
+    }
+
+    private static int getDateTimeEnd(final String value) {
+        int result = -1;
+
+        // Time: THH:mm[:ss[.SSSSSSSSS]]
+        if (value.length() >= 16 && (value.charAt(10) == 'T' || value.charAt(10) == 't') && isDigits(value, 11, 2)
+                && value.charAt(13) == ':' && isDigits(value, 14, 2)) {
+            result = 16;
+
+            if (isSeparatedDigits(value, result, ':')) {
+                result += 3;
+
+                if (result < value.length() && value.charAt(result) == '.') {
+                    final int digits = getDigits(value, result + 1);
+                    result = digits > 0 && digits <= 9 ? result + digits + 1 : -1;
+                }
+            }
+        }
+
+        // Offset: Z|+HH:MM[:ss]
+        if (result > 0 && result < value.length()) {
+            final char offsetStart = value.charAt(result);
+
+            if (offsetStart == 'Z' || offsetStart == 'z') {
+                result++;
+            } else if ((offsetStart == '+' || offsetStart == '-') && isDigits(value, result + 1, 2)
+                    && isSeparatedDigits(value, result + 3, ':')) {
+                result += 6;
+                result = isSeparatedDigits(value, result, ':') ? result + 3 : result;
+            } else {
+                result = -1;
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isValidDate(final int year, final int month, final int day) {
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static boolean isValidOffset(final String value, final int position) {
+        boolean result = true;
+
+        if (position < value.length() && value.charAt(position) != 'Z' && value.charAt(position) != 'z') {
+            final int hours = getNumber(value, position + 1, 2);
+            final int minutes = getNumber(value, position + 4, 2);
+            final int seconds = position + 6 < value.length() ? getNumber(value, position + 7, 2) : 0;
+            result = minutes <= 59 && seconds <= 59 && hours * 3600 + minutes * 60 + seconds <= MAX_OFFSET_SECONDS;
+        }
+
+        return result;
+    }
+
+    private static boolean isSeparatedDigits(final String value, final int position, final char separator) {
+        return position < value.length() && value.charAt(position) == separator && isDigits(value, position + 1, 2);
+    }
+
+    private static boolean isDigits(final String value, final int position, final int length) {
+        boolean result = position + length <= value.length();
+
+        for (int i = position; result && i < position + length; i++) {
+            result = isDigit(value.charAt(i));
+        }
+
+        return result;
+    }
+
+    private static int getDigits(final String value, final int position) {
+        int result = 0;
+
+        while (position + result < value.length() && isDigit(value.charAt(position + result))) {
+            result++;
+        }
+
+        return result;
+    }
+
+    private static int getNumber(final String value, final int position, final int length) {
+        int result = 0;
+
+        for (int i = position; i < position + length; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+
+        return result;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.squdan.querydsl.filters.util;
+
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache evicting least recently used entries, safe to be used concurrently.
+ * <p>
+ * Entries are distributed in segments by key hash, each segment is an access ordered map guarded by its own lock, so
+ * threads working with different keys rarely wait for each other. Cache never contains more than "maximumSize" entries.
+ * <p>
+ * Null keys and null values are not cached.
+ *
+ * @param <K>: key type.
+ * @param <V>: value type.
+ */
+public final class LruCache<K, V> {
+
+    // Configuration
+    private static final int MAX_SEGMENTS = 16;
+
+    private final int maximumSize;
+    private final Segment<K, V>[] segments;
+
+    // Statistics
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor from maximum number of entries.
+     *
+     * @param maximumSize: maximum number of entries, must be greater than 0.
+     */
+    @SuppressWarnings("unchecked")
+    public LruCache(final int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new QueryDslFiltersException(String.format("Cache maximum size must be greater than 0, received '%s'.", maximumSize));
+        }
+
+        this.maximumSize = maximumSize;
+
+        // Segments number must be power of 2 to select segment by hash bits
+        final int segmentsNumber = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        this.segments = new Segment[segmentsNumber];
+
+        for (int i = 0; i < segmentsNumber; i++) {
+            final int segmentSize = maximumSize / segmentsNumber + (i < maximumSize % segmentsNumber ? 1 : 0);
+            this.segments[i] = new Segment<>(segmentSize, evictions);
+        }
+    }
+
+    /**
+     * Returns cached value for the key.
+     *
+     * @param key: key to search.
+     * @return cached value or null if not cached.
+     */
+    public V get(final K key) {
+        V result = null;
+
+        if (Objects.nonNull(key)) {
+            final Segment<K, V> segment = getSegment(key);
+
+            synchronized (segment) {
+                result = segment.get(key);
+            }
+
+            if (Objects.isNull(result)) {
+                misses.increment();
+            } else {
+                hits.increment();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns cached value for the key, or calculates and caches it if not cached yet.
+     * <p>
+     * Loader is executed out of the cache locks, so it may be executed more than once for the same key when multiple
+     * threads request it at the same time. Null results of the loader are not cached.
+     *
+     * @param key:    key to search.
+     * @param loader: function to calculate the value if not cached.
+     * @return cached or calculated value.
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> loader) {
+        V result = get(key);
+
+        if (Objects.isNull(result)) {
+            result = loader.apply(key);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds value to the cache, evicting the least recently used entry of its segment if full.
+     *
+     * @param key:   key of the value.
+     * @param value: value to cache.
+     */
+    public void put(final K key, final V value) {
+        if (Objects.nonNull(key) && Objects.nonNull(value)) {
+            final Segment<K, V> segment = getSegment(key);
+
+            synchronized (segment) {
+                segment.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * Removes all cached entries, statistics are not reset.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Number of cached entries.
+     *
+     * @return cached entries.
+     */
+    public int size() {
+        int result = 0;
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                result += segment.size();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns current cache statistics.
+     *
+     * @return Statistics.
+     */
+    public Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), size(), maximumSize);
+    }
+
+    private Segment<K, V> getSegment(final K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Cache usage statistics.
+     *
+     * @param hits:        number of searches that found a cached value.
+     * @param misses:      number of searches that didn't find a cached value.
+     * @param evictions:   number of entries removed to keep cache size.
+     * @param size:        number of cached entries.
+     * @param maximumSize: maximum number of cached entries.
+     */
+    public record Statistics(long hits, long misses, long evictions, int size, int maximumSize) {
+
+        /**
+         * Ratio of searches that found a cached value.
+         *
+         * @return hit rate between 0 and 1, 0 if there were no searches.
+         */
+        public double hitRate() {
+            final long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        // Configuration
+        private final int maximumSize;
+        private final LongAdder evictions;
+
+        Segment(final int maximumSize, final LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            final boolean result = size() > maximumSize;
+
+            if (result) {
+                evictions.increment();
+            }
+
+            return result;
+        }
+    }
+}
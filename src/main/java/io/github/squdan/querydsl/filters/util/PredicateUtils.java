@@ -0,0 +1,77 @@
+package io.github.squdan.querydsl.filters.util;
+
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+/**
+ * Utility class to join predicates with "and" / "or".
+ * <p>
+ * Predicates are joined without constant terms (Example: "true = true"), each operation taking the previous one as
+ * its left operand. Serializers only add parentheses to right operands with the same precedence, so the generated query
+ * is a flat list of conditions:
+ * <p>
+ * - allOf(a, b, c, d): ((a and b) and c) and d -> a and b and c and d
+ * - anyOf(a, b, c): (a or b) or c -> a or b or c
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PredicateUtils {
+
+    /**
+     * Generates predicate matching when all received predicates match, null predicates are ignored.
+     *
+     * @param predicates: predicates to join.
+     * @return BooleanExpression, null if there are no predicates.
+     */
+    public static BooleanExpression allOf(final Collection<BooleanExpression> predicates) {
+        return join(Ops.AND, predicates);
+    }
+
+    /**
+     * Generates predicate matching when all received predicates match, null predicates are ignored.
+     *
+     * @param predicates: predicates to join.
+     * @return BooleanExpression, null if there are no predicates.
+     */
+    public static BooleanExpression allOf(final BooleanExpression... predicates) {
+        return allOf(Arrays.asList(predicates));
+    }
+
+    /**
+     * Generates predicate matching when any of received predicates match, null predicates are ignored.
+     *
+     * @param predicates: predicates to join.
+     * @return BooleanExpression, null if there are no predicates.
+     */
+    public static BooleanExpression anyOf(final Collection<BooleanExpression> predicates) {
+        return join(Ops.OR, predicates);
+    }
+
+    /**
+     * Generates predicate matching when any of received predicates match, null predicates are ignored.
+     *
+     * @param predicates: predicates to join.
+     * @return BooleanExpression, null if there are no predicates.
+     */
+    public static BooleanExpression anyOf(final BooleanExpression... predicates) {
+        return anyOf(Arrays.asList(predicates));
+    }
+
+    private static BooleanExpression join(final Ops operator, final Collection<BooleanExpression> predicates) {
+        BooleanExpression result = null;
+
+        for (BooleanExpression predicate : predicates) {
+            if (Objects.nonNull(predicate)) {
+                result = Objects.isNull(result) ? predicate : Expressions.booleanOperation(operator, result, predicate);
+            }
+        }
+
+        return result;
+    }
+}
@@ -1,13 +1,18 @@
 package io.github.squdan.querydsl.filters;
 
+import io.github.squdan.querydsl.filters.repository.type.QueryDslValueConverters;
+import io.github.squdan.querydsl.filters.util.LruCache;
 import org.apache.commons.collections4.CollectionUtils;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
@@ -44,7 +49,9 @@ public class QueryDslFiltersMapperITest {
                 Arguments.of("test_key<test_value", new QueryDslFilter(TEST_KEY, QueryDslOperators.LOWER_THAN, TEST_VALUE)),
                 Arguments.of("lt(test_key : test_value)", new QueryDslFilter(TEST_KEY, QueryDslOperators.LOWER_THAN_FUNCTION_LT, TEST_VALUE)),
                 Arguments.of("test_key<=test_value", new QueryDslFilter(TEST_KEY, QueryDslOperators.LOWER_THAN_OR_EQUALS, TEST_VALUE)),
-                Arguments.of("lte(test_key : test_value)", new QueryDslFilter(TEST_KEY, QueryDslOperators.LOWER_THAN_OR_EQUALS_FUNCTION_LTE, TEST_VALUE))
+                Arguments.of("lte(test_key : test_value)", new QueryDslFilter(TEST_KEY, QueryDslOperators.LOWER_THAN_OR_EQUALS_FUNCTION_LTE, TEST_VALUE)),
+                Arguments.of("in(test_key : test_value|35.5)", new QueryDslFilter(TEST_KEY, QueryDslOperators.IN_FUNCTION, "test_value|35.5")),
+                Arguments.of("notIn(test_key : test_value)", new QueryDslFilter(TEST_KEY, QueryDslOperators.NOT_IN_FUNCTION, TEST_VALUE))
         );
     }
 
@@ -111,6 +118,225 @@ public class QueryDslFiltersMapperITest {
         Assertions.assertTrue(Objects.nonNull(thrown));
     }
 
+    @Test
+    void test_getValues_multipleValues_returnValuesList() throws Exception {
+        // Test execution
+        final QueryDslFilter fromString = QueryDslFiltersMapper.map("in(test_key : a|b|c)");
+        final QueryDslFilter fromCollection = new QueryDslFilter(TEST_KEY, QueryDslOperators.IN_FUNCTION, List.of("a", "b", "c"));
+
+        // Response validation
+        Assertions.assertEquals(List.of("a", "b", "c"), fromString.getValues(), "Values from String are wrong.");
+        Assertions.assertEquals(List.of("a", "b", "c"), fromCollection.getValues(), "Values from Collection are wrong.");
+        Assertions.assertEquals(fromString.toString(), fromCollection.toString(), "Filters with same values must have same String format.");
+    }
+
+    @Test
+    void test_getTypedValue_sameConverter_returnConvertedOnce() throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = QueryDslFiltersMapper.map("test_key>35.5");
+        final QueryDslFilter inFilter = QueryDslFiltersMapper.map("in(test_key : 1|2|3)");
+        final QueryDslConversionContext conversionContext = new QueryDslConversionContext();
+        final QueryDslFilter attachedFilter = conversionContext.attach(List.of(filter)).get(0);
+
+        // Test execution
+        final QueryDslTypedValue<Double> typedValue = attachedFilter.getTypedValue(QueryDslValueConverters.DOUBLE);
+        final QueryDslTypedValue<Double> copyTypedValue = attachedFilter.withKey("other_key").getTypedValue(QueryDslValueConverters.DOUBLE);
+        final QueryDslTypedValue<Long> inTypedValue = inFilter.getTypedValue(QueryDslValueConverters.number(Long.class));
+
+        // Response validation
+        Assertions.assertEquals(35.5, typedValue.getValue(), "Wrong converted value.");
+        Assertions.assertEquals(35, typedValue.getLongValue(), "Wrong converted primitive value.");
+        Assertions.assertSame(typedValue, attachedFilter.getTypedValue(QueryDslValueConverters.DOUBLE), "Value must be converted only once.");
+        Assertions.assertSame(typedValue, copyTypedValue, "Filter copies must share converted value.");
+        Assertions.assertEquals(filter, attachedFilter, "Attached filters must be equal to their source.");
+        Assertions.assertEquals("35.5", attachedFilter.getTypedValue(QueryDslValueConverters.STRING).getValue(), "Other converters must convert again.");
+        Assertions.assertEquals(List.of(typedValue, attachedFilter.getTypedValue(QueryDslValueConverters.STRING)),
+                conversionContext.getTypedValues(filter), "Context must keep converted values.");
+        Assertions.assertNotSame(filter.getTypedValue(QueryDslValueConverters.DOUBLE), filter.getTypedValue(QueryDslValueConverters.DOUBLE),
+                "Filters without context can't keep converted values.");
+        Assertions.assertEquals(List.of(1L, 2L, 3L), inTypedValue.getValues(), "Wrong converted values.");
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> QueryDslFiltersMapper.map("test_key>abc").getTypedValue(QueryDslValueConverters.DOUBLE));
+    }
+
+    @Test
+    void test_tryGetTypedValue_wrongValues_returnEmpty() throws Exception {
+        // Test configuration
+        final QueryDslConversionContext conversionContext = new QueryDslConversionContext();
+        final QueryDslFilter filter = conversionContext.attach(List.of(QueryDslFiltersMapper.map("test_key>abc"))).get(0);
+
+        // Test execution & Response validation
+        Assertions.assertTrue(filter.tryGetTypedValue(QueryDslValueConverters.DOUBLE).isEmpty(), "Wrong value can't be converted.");
+        Assertions.assertTrue(QueryDslFiltersMapper.map("in(test_key : 1|abc)").tryGetTypedValue(QueryDslValueConverters.DOUBLE).isEmpty(),
+                "Values can't be converted if any of them is wrong.");
+        Assertions.assertEquals(List.of(1.0, 2.0), QueryDslFiltersMapper.map("in(test_key : 1|2)").tryGetTypedValue(QueryDslValueConverters.DOUBLE)
+                .orElseThrow().getValues(), "Wrong converted values.");
+        Assertions.assertNull(QueryDslFiltersMapper.map("isNull(test_key)").tryGetTypedValue(QueryDslValueConverters.DOUBLE).orElseThrow().getValue(),
+                "Filters without value must be converted to null.");
+        Assertions.assertTrue(conversionContext.getTypedValues(filter).isEmpty(), "Context can't keep values that can't be converted.");
+    }
+
+    @Test
+    void test_tryMap_wrongFormats_returnFiltersAndErrors() throws Exception {
+        // Test execution
+        final QueryDslFiltersMappingResult result = QueryDslFiltersMapper.tryMap(Arrays.asList(
+                "isNull(test_key)",
+                "isNull[test_key]",
+                " ",
+                "test_key=test_value",
+                null
+        ));
+
+        // Response validation
+        Assertions.assertTrue(result.hasErrors(), "QueryDslFiltersMapper didn't return errors.");
+        Assertions.assertEquals(
+                List.of(
+                        new QueryDslFilter(TEST_KEY, QueryDslOperators.IS_NULL_FUNCTION),
+                        new QueryDslFilter(TEST_KEY, QueryDslOperators.EQUALS, TEST_VALUE)
+                ),
+                result.filters(),
+                "QueryDslFiltersMapper returned wrong filters."
+        );
+        Assertions.assertEquals(
+                List.of(
+                        new QueryDslFilterError(1, "isNull[test_key]", QueryDslFilterError.Reason.WRONG_FORMAT),
+                        new QueryDslFilterError(2, " ", QueryDslFilterError.Reason.BLANK),
+                        new QueryDslFilterError(4, null, QueryDslFilterError.Reason.BLANK)
+                ),
+                result.errors(),
+                "QueryDslFiltersMapper returned wrong errors."
+        );
+    }
+
+    private static Stream<Arguments> provideFilterExpressionTestCases() {
+        final QueryDslFilterExpression isNull = QueryDslFilterExpression.of(new QueryDslFilter(TEST_KEY, QueryDslOperators.IS_NULL_FUNCTION));
+        final QueryDslFilterExpression equals = QueryDslFilterExpression.of(new QueryDslFilter(TEST_KEY, QueryDslOperators.EQUALS, TEST_VALUE));
+        final QueryDslFilterExpression contains = QueryDslFilterExpression.of(new QueryDslFilter(TEST_KEY, QueryDslOperators.CONTAIN_FUNCTION, TEST_VALUE));
+
+        return Stream.of(
+                Arguments.of("test_key=test_value", equals),
+                Arguments.of("isNull(test_key) or test_key=test_value", QueryDslFilterExpression.or(List.of(isNull, equals))),
+                Arguments.of("isNull(test_key) OR test_key=test_value AND contains(test_key, test_value)",
+                        QueryDslFilterExpression.or(List.of(isNull, QueryDslFilterExpression.and(List.of(equals, contains))))),
+                Arguments.of("(isNull(test_key) or test_key=test_value) and contains(test_key, test_value)",
+                        QueryDslFilterExpression.and(List.of(QueryDslFilterExpression.or(List.of(isNull, equals)), contains))),
+                Arguments.of("not not(isNull(test_key))", QueryDslFilterExpression.not(QueryDslFilterExpression.not(isNull))),
+                Arguments.of(" true and false ", QueryDslFilterExpression.and(List.of(QueryDslFilterExpression.TRUE, QueryDslFilterExpression.FALSE)))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFilterExpressionTestCases")
+    void test_mapExpression_expression_returnExpectedExpression(final String expression, final QueryDslFilterExpression expectedExpression) throws Exception {
+        // Test execution
+        final QueryDslFilterExpression result = QueryDslFiltersMapper.mapExpression(expression);
+
+        // Response validation
+        Assertions.assertEquals(expectedExpression, result, String.format("Expression '%s' mapped wrong.", expression));
+    }
+
+    private static Stream<Arguments> provideFoldExpressionTestCases() {
+        final QueryDslFilterExpression isNull = QueryDslFilterExpression.of(new QueryDslFilter(TEST_KEY, QueryDslOperators.IS_NULL_FUNCTION));
+        final QueryDslFilterExpression equals = QueryDslFilterExpression.of(new QueryDslFilter(TEST_KEY, QueryDslOperators.EQUALS, TEST_VALUE));
+
+        return Stream.of(
+                Arguments.of("true and test_key=test_value", equals),
+                Arguments.of("false or (test_key=test_value and not false)", equals),
+                Arguments.of("isNull(test_key) and (test_key=test_value and true)", QueryDslFilterExpression.and(List.of(isNull, equals))),
+                Arguments.of("not not isNull(test_key)", isNull),
+                Arguments.of("isNull(test_key) and (false or not true)", QueryDslFilterExpression.FALSE),
+                Arguments.of("isNull(test_key) or not false", QueryDslFilterExpression.TRUE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFoldExpressionTestCases")
+    void test_fold_expression_returnSimplifiedExpression(final String expression, final QueryDslFilterExpression expectedExpression) throws Exception {
+        // Test execution
+        final QueryDslFilterExpression result = QueryDslFiltersMapper.mapExpression(expression).fold();
+
+        // Response validation
+        Assertions.assertEquals(expectedExpression, result, String.format("Expression '%s' folded wrong.", expression));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFilterExpressionWrongFormatTestCases")
+    void test_mapExpression_wrongFormat_returnQueryDslFiltersException(final String expression) throws Exception {
+        // Test execution
+        final QueryDslFiltersException thrown = Assertions.assertThrows(
+                QueryDslFiltersException.class,
+                () -> QueryDslFiltersMapper.mapExpression(expression));
+
+        // Response validation
+        Assertions.assertTrue(Objects.nonNull(thrown));
+    }
+
+    @Test
+    void test_mapExpression_nestingOverLimit_returnQueryDslFiltersException() throws Exception {
+        // Test configuration
+        final int maxDepth = QueryDslFilterExpressionParser.MAX_DEPTH;
+        final String filter = "isNull(test_key)";
+
+        // Test execution & Response validation
+        Assertions.assertNotNull(QueryDslFiltersMapper.mapExpression("not ".repeat(maxDepth) + filter), "Expressions into the limit must be mapped.");
+        Assertions.assertNotNull(QueryDslFiltersMapper.mapExpression("(".repeat(maxDepth) + filter + ")".repeat(maxDepth)),
+                "Expressions into the limit must be mapped.");
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> QueryDslFiltersMapper.mapExpression("not ".repeat(100_000) + filter));
+        Assertions.assertThrows(QueryDslFiltersException.class,
+                () -> QueryDslFiltersMapper.mapExpression("(".repeat(100_000) + filter + ")".repeat(100_000)));
+        Assertions.assertThrows(QueryDslFiltersException.class,
+                () -> QueryDslFiltersMapper.mapExpression("(not ".repeat(maxDepth / 2 + 1) + filter + ")".repeat(maxDepth / 2 + 1)));
+    }
+
+    private static Stream<Arguments> provideFilterExpressionWrongFormatTestCases() {
+        return Stream.of(
+                Arguments.of(""),
+                Arguments.of("(test_key=test_value"),
+                Arguments.of("test_key=test_value)"),
+                Arguments.of("test_key=test_value or"),
+                Arguments.of("test_key=test_value test_key=test_value"),
+                Arguments.of("isNull(test_key"),
+                Arguments.of("not"),
+                Arguments.of("isNull[test_key]")
+        );
+    }
+
+    @Test
+    void test_map_cacheEnabled_returnCachedFilter() throws Exception {
+        // Test configuration
+        QueryDslFiltersMapper.enableCache(1);
+
+        // Test execution
+        final QueryDslFilter firstFilter = QueryDslFiltersMapper.map("test_key=test_value");
+        final QueryDslFilter secondFilter = QueryDslFiltersMapper.map("test_key=test_value");
+        QueryDslFiltersMapper.map("isNull(test_key)");
+        QueryDslFiltersMapper.map("nonNull(test_key)");
+
+        // Response validation
+        final LruCache.Statistics statistics = QueryDslFiltersMapper.getCacheStatistics().orElseThrow();
+        Assertions.assertSame(firstFilter, secondFilter, "QueryDslFiltersMapper didn't return cached filter.");
+        Assertions.assertEquals(1, statistics.hits(), "Wrong cache hits.");
+        Assertions.assertEquals(3, statistics.misses(), "Wrong cache misses.");
+        Assertions.assertEquals(2, statistics.evictions(), "Wrong cache evictions.");
+        Assertions.assertEquals(1, statistics.size(), "Wrong cache size.");
+    }
+
+    @Test
+    void test_map_cacheEnabledWrongFormat_returnQueryDslFiltersException() throws Exception {
+        // Test configuration
+        QueryDslFiltersMapper.enableCache(2);
+
+        // Test execution
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> QueryDslFiltersMapper.map("isNull[test_key]"));
+
+        // Response validation
+        Assertions.assertEquals(0, QueryDslFiltersMapper.getCacheStatistics().orElseThrow().size(), "Wrong filters must not be cached.");
+    }
+
+    @AfterEach
+    void disableCache() {
+        QueryDslFiltersMapper.disableCache();
+    }
+
     private QueryDslFilter searchFilterByOperatorType(final List<QueryDslFilter> filters, final QueryDslOperators operator) {
         return filters.stream().filter(f -> f.getOperator().equals(operator)).findFirst().orElseThrow();
     }
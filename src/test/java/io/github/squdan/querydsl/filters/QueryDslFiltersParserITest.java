@@ -0,0 +1,140 @@
+package io.github.squdan.querydsl.filters;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class QueryDslFiltersParserITest {
+
+    // Constants
+    private static final long RANDOM_SEED = 20231016L;
+    private static final int RANDOM_FILTERS = 20000;
+    private static final List<String> RANDOM_TOKENS = List.of(
+            "isNull", "nonNull", "equals", "eq", "nonEquals", "ne", "starts", "sw", "ends", "ew", "contains", "c",
+            "like", "gt", "gte", "lt", "lte", "in", "notIn", "test_key", "user.name", "a", "Z9", "2020-06-14T00:04:00Z", "-", "_",
+            ".", "|", "=", "!=", "!", ">", ">=", "<", "<=", "(", ")", " ", "  ", ",", ":", ";", "?", "[", "]", "é", ""
+    );
+
+    private static Stream<Arguments> provideFilterTestCases() {
+        return Stream.of(
+                // Operations
+                Arguments.of("test_key=test_value"),
+                Arguments.of("test_key!=test_value"),
+                Arguments.of("test_key>=35.5"),
+                Arguments.of("test_key<=35.5"),
+                Arguments.of("createdOn>2020-06-14T00:04:00Z"),
+                Arguments.of("test_key>=!test_value"),
+                Arguments.of("test_key!test_value"),
+                Arguments.of("a b=c d"),
+                Arguments.of("test_key="),
+                Arguments.of("=test_value"),
+
+                // Functions
+                Arguments.of("isNull(test_key)"),
+                Arguments.of("equals(test_key : test_value)"),
+                Arguments.of("contains(username, test)"),
+                Arguments.of("gte(createdOn; 2020-01-01)"),
+                Arguments.of("eq(test_key:test_value)"),
+                Arguments.of("eq(test_key ::test_value)"),
+                Arguments.of("eq(test_key )"),
+                Arguments.of("eq(a)b)"),
+                Arguments.of("eq(a)b c)"),
+                Arguments.of("xeq(eq(a))"),
+                Arguments.of("one(test_key : test_value)"),
+                Arguments.of("eq(a : b) c=d"),
+                Arguments.of("eq(a : b=c)"),
+                Arguments.of("eq()"),
+                Arguments.of("eq(test_key"),
+                Arguments.of("in(test_key : a|b|c)"),
+                Arguments.of("notIn(test_key, 35.5|40)"),
+                Arguments.of("test_key=a|b"),
+                Arguments.of("eq(test_key : a|b)"),
+                Arguments.of("in(test_key)a|b)"),
+                Arguments.of("eq(in(test_key : a|b)"),
+                Arguments.of("in(eq(test_key : a|b)"),
+                Arguments.of("admin(test_key)"),
+                Arguments.of("c(c(c(a)b"),
+                Arguments.of("c(c(c(a:b"),
+                Arguments.of("c(c(c(ab("),
+                Arguments.of("c(a)c(b)c(d"),
+
+                // Wrong formats
+                Arguments.of("isNull[test_key]"),
+                Arguments.of("test_ke??test_value"),
+                Arguments.of("equals(test_key ,_: test_value)"),
+                Arguments.of(""),
+                Arguments.of("   ")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFilterTestCases")
+    void test_parse_filter_returnSameFilterThanRegexMapper(final String filter) throws Exception {
+        // Test execution
+        final QueryDslFilter expectedFilter = QueryDslFiltersRegexMapper.map(filter);
+        final QueryDslFilter queryDslFilter = QueryDslFiltersParser.parse(filter);
+
+        // Response validation
+        Assertions.assertEquals(expectedFilter, queryDslFilter, String.format("Filter '%s' parsed differently.", filter));
+    }
+
+    private static Stream<Arguments> provideValuesSeparatorTestCases() {
+        return Stream.of(
+                Arguments.of("role=ADMIN|USER", new QueryDslFilter("role", QueryDslOperators.EQUALS, "ADMIN")),
+                Arguments.of("eq(role : ADMIN|USER)", null),
+                Arguments.of("in(role : ADMIN|USER)", new QueryDslFilter("role", QueryDslOperators.IN_FUNCTION, "ADMIN|USER")),
+                Arguments.of("notIn(role, ADMIN|USER)", new QueryDslFilter("role", QueryDslOperators.NOT_IN_FUNCTION, "ADMIN|USER"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideValuesSeparatorTestCases")
+    void test_parse_valuesSeparator_onlyAcceptedByMultipleValuesOperators(final String filter, final QueryDslFilter expectedFilter) throws Exception {
+        // Test execution
+        final QueryDslFilter queryDslFilter = QueryDslFiltersParser.parse(filter);
+
+        // Response validation
+        Assertions.assertEquals(expectedFilter, queryDslFilter, String.format("Filter '%s' parsed wrong.", filter));
+    }
+
+    @Test
+    void test_parse_nestedFunctions_parseInLinearTime() throws Exception {
+        // Test configuration
+        final String filter = "c(".repeat(200_000);
+
+        // Test execution & Response validation
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2), () -> QueryDslFiltersParser.parse(filter),
+                "Nested functions must be parsed reading the filter once.");
+    }
+
+    @Test
+    void test_parse_randomFilters_returnSameFiltersThanRegexMapper() throws Exception {
+        final Random random = new Random(RANDOM_SEED);
+
+        for (int i = 0; i < RANDOM_FILTERS; i++) {
+            // Generate random filter from tokens
+            final StringBuilder filterBuilder = new StringBuilder();
+            final int tokens = 1 + random.nextInt(8);
+
+            for (int j = 0; j < tokens; j++) {
+                filterBuilder.append(RANDOM_TOKENS.get(random.nextInt(RANDOM_TOKENS.size())));
+            }
+
+            final String filter = filterBuilder.toString();
+
+            // Test execution
+            final QueryDslFilter expectedFilter = QueryDslFiltersRegexMapper.map(filter);
+            final QueryDslFilter queryDslFilter = QueryDslFiltersParser.parse(filter);
+
+            // Response validation
+            Assertions.assertEquals(expectedFilter, queryDslFilter, String.format("Filter '%s' parsed differently.", filter));
+        }
+    }
+}
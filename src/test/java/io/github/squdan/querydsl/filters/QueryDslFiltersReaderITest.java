@@ -0,0 +1,83 @@
+package io.github.squdan.querydsl.filters;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class QueryDslFiltersReaderITest {
+
+    // Constants
+    private static final String TEST_KEY = "test_key";
+    private static final String TEST_VALUE = "test_value";
+
+    @Test
+    void test_stream_reader_returnFiltersIgnoringBlankLines() throws Exception {
+        // Test execution
+        final List<QueryDslFilter> filters;
+
+        try (Stream<QueryDslFilter> stream = QueryDslFiltersMapper.stream(new StringReader("isNull(test_key)\n\n   \ntest_key=test_value\r\nin(test_key : a|b)"))) {
+            filters = stream.toList();
+        }
+
+        // Response validation
+        Assertions.assertEquals(
+                List.of(
+                        new QueryDslFilter(TEST_KEY, QueryDslOperators.IS_NULL_FUNCTION),
+                        new QueryDslFilter(TEST_KEY, QueryDslOperators.EQUALS, TEST_VALUE),
+                        new QueryDslFilter(TEST_KEY, QueryDslOperators.IN_FUNCTION, "a|b")
+                ),
+                filters,
+                "QueryDslFiltersReader returned wrong filters."
+        );
+    }
+
+    @Test
+    void test_stream_channel_returnFilters() throws Exception {
+        // Test configuration
+        final String values = IntStream.range(0, 10000).mapToObj(String::valueOf).collect(Collectors.joining("|"));
+        final byte[] document = ("in(test_key : " + values + ")\nnonNull(test_key)\n").getBytes(StandardCharsets.UTF_8);
+
+        // Test execution
+        final List<QueryDslFilter> filters;
+
+        try (Stream<QueryDslFilter> stream = QueryDslFiltersMapper.stream(Channels.newChannel(new ByteArrayInputStream(document)))) {
+            filters = stream.toList();
+        }
+
+        // Response validation
+        Assertions.assertEquals(2, filters.size(), "QueryDslFiltersReader returned wrong filters number.");
+        Assertions.assertEquals(10000, filters.get(0).getValues().size(), "QueryDslFiltersReader returned wrong values number.");
+        Assertions.assertEquals(new QueryDslFilter(TEST_KEY, QueryDslOperators.NON_NULL_FUNCTION), filters.get(1), "QueryDslFiltersReader returned wrong filter.");
+    }
+
+    @Test
+    void test_next_wrongFormat_returnFiltersUntilWrongLine() throws Exception {
+        try (QueryDslFiltersReader reader = new QueryDslFiltersReader(new StringReader("isNull(test_key)\n\nisNull[test_key]\nnonNull(test_key)"))) {
+            // Test execution
+            final QueryDslFilter filter = reader.next();
+            final QueryDslFiltersException thrown = Assertions.assertThrows(QueryDslFiltersException.class, reader::hasNext);
+
+            // Response validation
+            Assertions.assertEquals(new QueryDslFilter(TEST_KEY, QueryDslOperators.IS_NULL_FUNCTION), filter, "QueryDslFiltersReader returned wrong filter.");
+            Assertions.assertTrue(thrown.getMessage().contains("line 3"), "Error must contain the line of the wrong filter.");
+        }
+    }
+
+    @Test
+    void test_next_noMoreFilters_returnNoSuchElementException() throws Exception {
+        try (QueryDslFiltersReader reader = new QueryDslFiltersReader(new StringReader("\n \n"))) {
+            // Response validation
+            Assertions.assertFalse(reader.hasNext(), "QueryDslFiltersReader shouldn't have filters.");
+            Assertions.assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+}
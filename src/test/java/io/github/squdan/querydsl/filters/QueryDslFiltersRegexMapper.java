@@ -0,0 +1,134 @@
+package io.github.squdan.querydsl.filters;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Regex implementation used by {@link QueryDslFiltersMapper} before {@link QueryDslFiltersParser}, kept as reference to
+ * check that both implementations return the same results.
+ */
+public final class QueryDslFiltersRegexMapper {
+
+    // Configuration - Allowed characters
+    private static final String ALLOWED_CHARACTERS_KEYS = "[A-Za-z0-9._()-]";
+    private static final String ALLOWED_CHARACTERS_VALUES = "[A-Za-z0-9.:_-]";
+    private static final String ALLOWED_CHARACTERS_MULTIPLE_VALUES = "[A-Za-z0-9.:_|-]";
+    private static final String ALLOWED_FUNCTION_SEPARATOR_CHARACTERS = "[,:;]";
+
+    // Configuration - Operators formats
+    // --> Example: user.name = test
+    // --> Example: price <= 5.5
+    private static final String REGEX_QUERY_DSL_OPERATORS = "(%s+)(%s|%s)(%s+)";
+    // --> Example: nonNull(currency)
+    // --> Example: contains(username, test)
+    // --> Example: in(role : ADMIN|USER)
+    private static final String REGEX_QUERY_DSL_FUNCTION_OPERATORS = "(%s)\\((%s+) *%s? *(%s*)\\)|(%s)\\((%s+) *%s? *(%s*)\\)";
+
+    // Configuration - Patterns to apply to build QueryDslFilters
+    private static final Pattern PATTERN_QUERY_DSL_OPERATORS;
+    private static final Pattern PATTERN_QUERY_DSL_FUNCTION_OPERATORS;
+
+    static {
+        final StringBuilder regexQueryDslOperatorsSimpleBuilder = new StringBuilder();
+        final StringBuilder regexQueryDslOperatorsMultipleBuilder = new StringBuilder();
+        final StringBuilder regexQueryDslFunctionOperatorsBuilder = new StringBuilder();
+        final StringBuilder regexQueryDslMultipleValuesFunctionOperatorsBuilder = new StringBuilder();
+
+        Stream.of(QueryDslOperators.values()).forEach(o -> {
+            // Normal operators
+            if (!o.isFunction()) {
+                // Split simple operators (=, >...) from multiple operators (>=, <=...)
+                if (o.getOperator().length() == 1) {
+                    if (!regexQueryDslOperatorsSimpleBuilder.isEmpty()) {
+                        regexQueryDslOperatorsSimpleBuilder.append("|");
+                    }
+
+                    regexQueryDslOperatorsSimpleBuilder.append(o.getOperator());
+                } else {
+                    if (!regexQueryDslOperatorsMultipleBuilder.isEmpty()) {
+                        regexQueryDslOperatorsMultipleBuilder.append("|");
+                    }
+
+                    regexQueryDslOperatorsMultipleBuilder.append(o.getOperator());
+                }
+            }
+
+            // Function operators, split single value operators from multiple values operators (in, notIn)
+            else {
+                final StringBuilder builder = o.hasMultipleValues() ? regexQueryDslMultipleValuesFunctionOperatorsBuilder : regexQueryDslFunctionOperatorsBuilder;
+
+                if (!builder.isEmpty()) {
+                    builder.append("|");
+                }
+
+                builder.append(o.getOperator());
+            }
+        });
+
+        // Prepare regex expressions
+        final String regexQueryDslOperators = String.format(REGEX_QUERY_DSL_OPERATORS, ALLOWED_CHARACTERS_KEYS, regexQueryDslOperatorsMultipleBuilder, regexQueryDslOperatorsSimpleBuilder, ALLOWED_CHARACTERS_VALUES);
+        final String regexQueryDslFunctionOperators = String.format(REGEX_QUERY_DSL_FUNCTION_OPERATORS,
+                regexQueryDslFunctionOperatorsBuilder, ALLOWED_CHARACTERS_KEYS, ALLOWED_FUNCTION_SEPARATOR_CHARACTERS, ALLOWED_CHARACTERS_VALUES,
+                regexQueryDslMultipleValuesFunctionOperatorsBuilder, ALLOWED_CHARACTERS_KEYS, ALLOWED_FUNCTION_SEPARATOR_CHARACTERS, ALLOWED_CHARACTERS_MULTIPLE_VALUES);
+
+        // Prepare patterns
+        PATTERN_QUERY_DSL_OPERATORS = Pattern.compile(regexQueryDslOperators);
+        PATTERN_QUERY_DSL_FUNCTION_OPERATORS = Pattern.compile(regexQueryDslFunctionOperators);
+    }
+
+    /**
+     * Maps received QueryDslFilter in String format to QueryDslFilter.
+     *
+     * @param filter: QueryDslFilter in String format.
+     * @return QueryDslFilter or null if format not correct.
+     */
+    public static QueryDslFilter map(final String filter) {
+        QueryDslFilter result = processAsOperatorFilters(filter);
+
+        // if processAsOperatorFilters returns null, then received filter must be function
+        if (Objects.isNull(result)) {
+            result = processAsFunctionOperatorFilters(filter);
+        }
+
+        return result;
+    }
+
+    private static QueryDslFilter processAsOperatorFilters(final String filter) {
+        QueryDslFilter result = null;
+
+        if (StringUtils.isNotBlank(filter)) {
+            final Matcher matcher = PATTERN_QUERY_DSL_OPERATORS.matcher(filter);
+
+            if (matcher.find()) {
+                result = QueryDslFilter.from(matcher.group(1), matcher.group(2), matcher.group(3));
+            }
+        }
+
+        return result;
+    }
+
+    private static QueryDslFilter processAsFunctionOperatorFilters(final String filter) {
+        QueryDslFilter result = null;
+
+        if (StringUtils.isNotBlank(filter)) {
+            final Matcher matcher = PATTERN_QUERY_DSL_FUNCTION_OPERATORS.matcher(filter);
+
+            if (matcher.find()) {
+                // Groups of single value operators or multiple values operators
+                final int firstGroup = Objects.nonNull(matcher.group(1)) ? 1 : 4;
+
+                if (StringUtils.isBlank(matcher.group(firstGroup + 2))) {
+                    result = QueryDslFilter.from(matcher.group(firstGroup + 1), matcher.group(firstGroup));
+                } else {
+                    result = QueryDslFilter.from(matcher.group(firstGroup + 1), matcher.group(firstGroup), matcher.group(firstGroup + 2));
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.squdan.querydsl.filters;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Optional;
+
+public class QueryDslOperatorsITest {
+
+    @ParameterizedTest
+    @EnumSource(QueryDslOperators.class)
+    void test_from_operator_returnExpectedOperator(final QueryDslOperators operator) throws Exception {
+        // Test execution
+        final Optional<QueryDslOperators> fromString = QueryDslOperators.from(operator.getOperator());
+        final Optional<QueryDslOperators> fromRegion = QueryDslOperators.from("key" + operator.getOperator() + "(value)", 3, 3 + operator.getOperator().length());
+
+        // Response validation
+        Assertions.assertEquals(Optional.of(operator), fromString, "QueryDslOperators.from(String) returned wrong operator.");
+        Assertions.assertEquals(Optional.of(operator), fromRegion, "QueryDslOperators.from(CharSequence, int, int) returned wrong operator.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "==", "e", "eqq", "Eq", "isnull", "nonEqualsX", "ñ"})
+    void test_from_unknownOperator_returnEmpty(final String operator) throws Exception {
+        // Test execution
+        final Optional<QueryDslOperators> fromString = QueryDslOperators.from(operator);
+
+        // Response validation
+        Assertions.assertTrue(fromString.isEmpty(), String.format("Operator '%s' shouldn't be found.", operator));
+    }
+}
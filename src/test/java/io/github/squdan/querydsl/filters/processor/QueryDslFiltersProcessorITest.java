@@ -0,0 +1,98 @@
+package io.github.squdan.querydsl.filters.processor;
+
+import io.github.squdan.querydsl.filters.repository.metadata.QueryDslFilterDescriptor;
+import jakarta.persistence.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class QueryDslFiltersProcessorITest {
+
+    // Test data - Superclass declared at other package than its entities
+    private static final String BASE_ENTITY = """
+            package test.base;
+
+            @jakarta.persistence.MappedSuperclass
+            public class BaseEntity {
+                protected static class Audit {
+                }
+
+                public static class Version {
+                }
+
+                protected %s field;
+            }
+            """;
+
+    private static final String ENTITY = """
+            package test.entity;
+
+            @jakarta.persistence.Entity
+            public class TestEntity extends test.base.BaseEntity {
+                private String name;
+            }
+            """;
+
+    private static Stream<Arguments> provideFieldTypeTestCases() {
+        return Stream.of(
+                // Field type, descriptor generated
+                Arguments.of("String", true),
+                Arguments.of("Version", true),
+                Arguments.of("Audit", false),
+                Arguments.of("java.util.List<Audit>", false)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFieldTypeTestCases")
+    void test_process_superclassFieldOfOtherPackage_generateDescriptorOnlyIfTypeAccessible(final String fieldType, final boolean generated,
+                                                                                          @TempDir final Path output) throws Exception {
+        // Test configuration
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        final String classpath = Stream.of(Entity.class, QueryDslFilterDescriptor.class)
+                .map(type -> type.getProtectionDomain().getCodeSource().getLocation().getPath())
+                .reduce((first, second) -> first + File.pathSeparator + second)
+                .orElseThrow();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", classpath, "-d", output.toString(), "-s", output.toString()),
+                    null, List.of(source("test/base/BaseEntity", String.format(BASE_ENTITY, fieldType)), source("test/entity/TestEntity", ENTITY)));
+            task.setProcessors(List.of(new QueryDslFiltersProcessor()));
+
+            // Test execution
+            final boolean compiled = task.call();
+
+            // Response validation
+            Assertions.assertTrue(compiled, String.format("Entity and generated descriptor must compile: %s", diagnostics.getDiagnostics()));
+            Assertions.assertEquals(generated, Files.exists(output.resolve("test/entity/TestEntityFilterDescriptor.class")),
+                    String.format("Wrong descriptor generation for field type '%s'.", fieldType));
+        }
+
+    }
+
+    private static JavaFileObject source(final String name, final String content) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
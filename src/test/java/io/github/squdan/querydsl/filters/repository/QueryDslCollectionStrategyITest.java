@@ -0,0 +1,120 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersMapper;
+import io.github.squdan.querydsl.filters.configuration.DatabaseTestConfiguration;
+import io.github.squdan.querydsl.filters.configuration.TestQueryDslFiltersApplication;
+import io.github.squdan.querydsl.filters.repository.entity.BankAccountEntity;
+import io.github.squdan.querydsl.filters.repository.entity.BankAccountId;
+import io.github.squdan.querydsl.filters.repository.entity.Roles;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark of {@link QueryDslCollectionStrategy} over generated users with bank accounts, generated data is removed
+ * after the test. Size can be configured with system properties (Example: -Dbenchmark.users=100000
+ * -Dbenchmark.accounts=8).
+ */
+@Slf4j
+@SpringBootTest(classes = {TestQueryDslFiltersApplication.class, DatabaseTestConfiguration.class, UserRepository.class})
+@ExtendWith(SpringExtension.class)
+public class QueryDslCollectionStrategyITest {
+
+    // Constants
+    private static final int USERS = Integer.getInteger("benchmark.users", 500);
+    private static final int ACCOUNTS_BY_USER = Integer.getInteger("benchmark.accounts", 4);
+    private static final int BANKS = 10;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 10;
+
+    // Class to test
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    void test_count_collectionStrategies_returnSameResults() throws Exception {
+        // Test configuration
+        final List<QueryDslFilter> filters = QueryDslFiltersMapper.map(List.of("accounts.id.bank=benchmark_bank_3", "accounts.amount>900"));
+        final long expected = generateData();
+
+        for (QueryDslCollectionStrategy strategy : QueryDslCollectionStrategy.values()) {
+            final BooleanExpression predicate = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES,
+                    QueryDslCollectionsConfiguration.builder().strategy(strategy).build()).compile(filters);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                userRepository.count(predicate);
+            }
+
+            // Test execution
+            long result = 0;
+            final long start = System.nanoTime();
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                result = userRepository.count(predicate);
+            }
+
+            final long averageMicros = (System.nanoTime() - start) / ITERATIONS / 1000;
+            log.info("Collection strategy '{}' with {} users and {} accounts by user: {} us/query.", strategy, USERS, ACCOUNTS_BY_USER, averageMicros);
+
+            // Response validation
+            Assertions.assertEquals(expected, result, String.format("Strategy '%s' returned wrong results.", strategy));
+        }
+    }
+
+    private long generateData() {
+        long result = 0;
+
+        for (int i = 0; i < USERS; i++) {
+            final UserEntity user = UserEntity.builder()
+                    .username("benchmark_user_" + i)
+                    .password("test")
+                    .role(Roles.USER)
+                    .name("Benchmark User " + i)
+                    .build();
+            entityManager.persist(user);
+
+            final List<BankAccountEntity> accounts = IntStream.range(0, ACCOUNTS_BY_USER)
+                    .mapToObj(account -> BankAccountEntity.builder()
+                            .id(BankAccountId.builder()
+                                    .bank("benchmark_bank_" + Math.floorMod(user.getName().hashCode() + account, BANKS))
+                                    .account(user.getUsername() + "_account_" + account)
+                                    .build())
+                            .user(user)
+                            .amount(BigDecimal.valueOf(Math.floorMod(user.getName().hashCode() * 31L + account * 997L, 1000L)))
+                            .build())
+                    .toList();
+            accounts.forEach(entityManager::persist);
+
+            // Expected result: users with an account matching both filters
+            result += accounts.stream().anyMatch(account -> "benchmark_bank_3".equals(account.getId().getBank())
+                    && account.getAmount().compareTo(BigDecimal.valueOf(900)) > 0) ? 1 : 0;
+
+            if (i % 500 == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return result;
+    }
+}
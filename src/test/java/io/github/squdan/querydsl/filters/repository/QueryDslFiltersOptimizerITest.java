@@ -0,0 +1,108 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersMapper;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class QueryDslFiltersOptimizerITest {
+
+    // Class to test, enums are managed by built-in type manager
+    private final QueryDslFiltersOptimizer<UserEntity> optimizer = new QueryDslFiltersOptimizer<>(UserEntity.class, new QueryDslPredicateFactory());
+
+    private static Stream<Arguments> provideOptimizeTestCases() {
+        return Stream.of(
+                // Duplicates
+                Arguments.of(List.of("name=Dan", "name=Dan"), List.of("name=Dan")),
+                Arguments.of(List.of("contains(name : an)", "contains(name : Da)"), List.of("contains(name : an)", "contains(name : Da)")),
+
+                // Ranges
+                Arguments.of(List.of("savings>10", "savings>20"), List.of("savings>20")),
+                Arguments.of(List.of("savings>=20", "savings>20.0", "savings<100", "savings<=50"), List.of("savings>20.0", "savings<=50")),
+                Arguments.of(List.of("savings>=20", "savings<=20"), List.of("savings=20")),
+                Arguments.of(List.of("nonNull(savings)", "savings>=20", "ne(savings : 5)", "ne(savings : 30)"), List.of("savings>=20", "savings!=30")),
+
+                // Equals and in
+                Arguments.of(List.of("role=ADMIN", "in(role : ADMIN|USER)"), List.of("role=ADMIN")),
+                Arguments.of(List.of("in(savings : 10|20|30)", "in(savings : 20.0|30|40)", "savings<30"), List.of("savings=20")),
+                Arguments.of(List.of("in(savings : 10|20|30)", "notIn(savings : 10)"), List.of("in(savings : 20|30)")),
+                Arguments.of(List.of("ne(role : ADMIN)", "notIn(role : USER)"), List.of("notIn(role : ADMIN|USER)")),
+
+                // Not optimized: other keys, unknown fields and wrong values
+                Arguments.of(List.of("savings>10", "name=Dan"), List.of("savings>10", "name=Dan")),
+                Arguments.of(List.of("unknown>10", "unknown>20"), List.of("unknown>10", "unknown>20")),
+                Arguments.of(List.of("savings>10", "savings>abc"), List.of("savings>10", "savings>abc")),
+                Arguments.of(List.of("accounts.amount>10", "accounts.amount<5"), List.of("accounts.amount>10", "accounts.amount<5"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideOptimizeTestCases")
+    void test_optimize_filters_returnSimplifiedFilters(final List<String> filters, final List<String> expectedFilters) throws Exception {
+        // Test execution
+        final Optional<List<QueryDslFilter>> result = optimizer.optimize(QueryDslFiltersMapper.map(filters));
+
+        // Response validation
+        Assertions.assertEquals(expectedFilters, result.orElseThrow().stream().map(QueryDslFilter::toString).toList(), "Wrong filters.");
+    }
+
+    private static Stream<Arguments> provideUnsatisfiableTestCases() {
+        return Stream.of(
+                Arguments.of(List.of("role=ADMIN", "role=USER")),
+                Arguments.of(List.of("savings>20", "savings<10")),
+                Arguments.of(List.of("savings>20", "savings<=20")),
+                Arguments.of(List.of("savings>=20", "savings<=20", "ne(savings : 20)")),
+                Arguments.of(List.of("in(savings : 10|20)", "savings>20")),
+                Arguments.of(List.of("isNull(savings)", "savings>20")),
+                Arguments.of(List.of("isNull(role)", "nonNull(role)"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideUnsatisfiableTestCases")
+    void test_optimize_unsatisfiableFilters_returnEmpty(final List<String> filters) throws Exception {
+        // Test execution
+        final Optional<List<QueryDslFilter>> result = optimizer.optimize(QueryDslFiltersMapper.map(filters));
+
+        // Response validation
+        Assertions.assertTrue(result.isEmpty(), "Filters can never match together.");
+    }
+
+    @Test
+    void test_compile_unsatisfiableFilters_returnNone() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+
+        // Test execution
+        final Object predicate = compiler.compile(QueryDslFiltersMapper.map(List.of("savings>20", "savings<10", "name=Dan")));
+
+        // Response validation
+        Assertions.assertSame(QueryDslPredicateBuilder.NONE, predicate, "Unsatisfiable filters must return NONE.");
+    }
+
+    @Test
+    void test_optimize_singleValueRangeOfIntegerField_returnEqualsOnlyForIntegers() throws Exception {
+        // Test configuration
+        final QueryDslFiltersOptimizer<AgesEntity> agesOptimizer = new QueryDslFiltersOptimizer<>(AgesEntity.class, new QueryDslPredicateFactory());
+
+        // Test execution
+        final Optional<List<QueryDslFilter>> integerResult = agesOptimizer.optimize(QueryDslFiltersMapper.map(List.of("age>=17.0", "age<=17")));
+        final Optional<List<QueryDslFilter>> decimalResult = agesOptimizer.optimize(QueryDslFiltersMapper.map(List.of("age>=17.5", "age<=17.5")));
+
+        // Response validation
+        Assertions.assertEquals(List.of("age=17.0"), integerResult.orElseThrow().stream().map(QueryDslFilter::toString).toList(), "Wrong filters.");
+        Assertions.assertTrue(decimalResult.isEmpty(), "Integer fields never match decimal values.");
+    }
+
+    private static class AgesEntity {
+        private int age;
+    }
+}
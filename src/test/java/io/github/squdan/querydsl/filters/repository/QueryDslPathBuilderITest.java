@@ -0,0 +1,76 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.EntityPath;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import io.github.squdan.querydsl.filters.repository.entity.BankAccountEntity;
+import io.github.squdan.querydsl.filters.repository.entity.Roles;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+
+import java.math.BigDecimal;
+
+public class QueryDslPathBuilderITest {
+
+    @Test
+    void test_getPath_queryDslTypeField_returnQueryDslTypePath() throws Exception {
+        // Test configuration
+        final EntityPath<UserEntity> queryDslType = SimpleEntityPathResolver.INSTANCE.createPath(UserEntity.class);
+        final QueryDslPathBuilder<UserEntity> entityPath = QueryDslPathBuilder.of(UserEntity.class);
+
+        // Test execution
+        final StringPath name = entityPath.getString("name");
+        final NumberPath<BigDecimal> savings = entityPath.getNumber("savings", BigDecimal.class);
+
+        // Response validation
+        Assertions.assertSame(entityPath, QueryDslPathBuilder.of(UserEntity.class), "Entity paths must be shared.");
+        Assertions.assertSame(queryDslType.getClass().getField("name").get(queryDslType), name, "Q-type path must be used.");
+        Assertions.assertSame(queryDslType.getClass().getField("savings").get(queryDslType), savings, "Q-type path must be used.");
+        Assertions.assertSame(queryDslType.getClass().getField("role").get(queryDslType), entityPath.getEnum("role", Roles.class), "Q-type path must be used.");
+    }
+
+    @Test
+    void test_getPath_otherPathType_returnCachedPath() throws Exception {
+        // Test configuration
+        final QueryDslPathBuilder<UserEntity> entityPath = QueryDslPathBuilder.of(UserEntity.class);
+
+        // Test execution
+        final NumberPath<Double> savings = entityPath.getNumber("savings", Double.class);
+
+        // Response validation
+        Assertions.assertEquals(Double.class, savings.getType(), "Requested path type must be kept.");
+        Assertions.assertEquals("userEntity.savings", savings.toString(), "Wrong path.");
+        Assertions.assertSame(savings, entityPath.getNumber("savings", Double.class), "Paths must be created once.");
+    }
+
+    @Test
+    void test_any_collection_returnCachedCollectionElementPath() throws Exception {
+        // Test configuration
+        final QueryDslPathBuilder<UserEntity> entityPath = QueryDslPathBuilder.of(UserEntity.class);
+
+        // Test execution
+        final QueryDslPathBuilder<BankAccountEntity> accounts = entityPath.any("accounts", BankAccountEntity.class);
+        final StringPath bank = accounts.getString("id.bank");
+
+        // Response validation
+        Assertions.assertSame(accounts, entityPath.any("accounts", BankAccountEntity.class), "Collection element paths must be created once.");
+        Assertions.assertSame(bank, accounts.getString("id.bank"), "Paths must be created once.");
+        Assertions.assertEquals("any(userEntity.accounts).id.bank", bank.toString(), "Wrong path.");
+    }
+
+    @Test
+    void test_getPath_morePropertiesThanKept_returnExpectedPaths() throws Exception {
+        // Test configuration
+        final EntityPath<UserEntity> queryDslType = SimpleEntityPathResolver.INSTANCE.createPath(UserEntity.class);
+        final QueryDslPathBuilder<UserEntity> entityPath = QueryDslPathBuilder.of(UserEntity.class);
+
+        // Test execution & Response validation
+        for (int i = 0; i < 3000; i++) {
+            Assertions.assertEquals("userEntity.unknown" + i, entityPath.getString("unknown" + i).toString(), "Wrong path.");
+        }
+
+        Assertions.assertSame(queryDslType.getClass().getField("name").get(queryDslType), entityPath.getString("name"), "Q-type path must be used.");
+    }
+}
@@ -0,0 +1,284 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersMapper;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
+import io.github.squdan.querydsl.filters.util.LruCache;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+public class QueryDslPredicateCompilerITest {
+
+    @AfterEach
+    void disablePlanCache() {
+        QueryDslPredicateCompiler.disablePlanCache();
+    }
+
+    @Test
+    void test_compile_planCacheCompilersWithSameConfiguration_returnSharedPlan() throws Exception {
+        // Test configuration
+        final List<QueryDslFilter> filters = QueryDslFiltersMapper.map(List.of("role=ADMIN", "savings>=100"));
+        QueryDslPredicateCompiler.enablePlanCache(16);
+
+        // Test execution
+        new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES).compile(filters);
+        new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES).compile(filters);
+        new QueryDslPredicateCompiler<>(UserEntity.class, null).compile(filters);
+
+        // Response validation
+        final LruCache.Statistics statistics = QueryDslPredicateCompiler.getPlanCacheStatistics().orElseThrow();
+        Assertions.assertEquals(1, statistics.hits(), "Compilers with the same configuration must share plans.");
+        Assertions.assertEquals(2, statistics.size(), "Plans must depend on custom type manager.");
+    }
+
+    @Test
+    void test_of_sameConfiguration_returnSharedCompiler() throws Exception {
+        // Test execution
+        final QueryDslPredicateCompiler<UserEntity> compiler = QueryDslPredicateCompiler.of(UserEntity.class, UserRepository.CUSTOM_TYPES, null);
+
+        // Response validation
+        Assertions.assertSame(compiler, QueryDslPredicateCompiler.of(UserEntity.class, UserRepository.CUSTOM_TYPES, QueryDslCollectionsConfiguration.DEFAULT),
+                "Same configuration must return the same compiler.");
+        Assertions.assertNotSame(compiler, QueryDslPredicateCompiler.of(UserEntity.class, null, null),
+                "Different custom type manager must return a different compiler.");
+        Assertions.assertNotSame(compiler, QueryDslPredicateCompiler.of(UserEntity.class, UserRepository.CUSTOM_TYPES,
+                QueryDslCollectionsConfiguration.builder().independentFilters(true).build()), "Different collections configuration must return a different compiler.");
+    }
+
+    @Test
+    void test_compile_concurrentCalls_returnSamePredicates() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final List<QueryDslFilter> filters = QueryDslFiltersMapper.map(List.of("role=ADMIN", "accounts.amount>=100", "createdOn>2020-01-01", "contain(name : dan)"));
+        final String expected = new QueryDslPredicateBuilder<>(UserEntity.class)
+                .addCustomTypeManager(UserRepository.CUSTOM_TYPES)
+                .with(filters)
+                .build()
+                .toString();
+        final Callable<String> task = () -> compiler.compile(filters).toString();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // Test execution
+            final List<Future<String>> results = executor.invokeAll(IntStream.range(0, 64).mapToObj(i -> task).toList());
+
+            // Response validation
+            for (Future<String> predicate : results) {
+                Assertions.assertEquals(expected, predicate.get(), "Shared compiler generated a wrong predicate.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_compile_multipleFilters_returnFlatConjunction() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+
+        // Test execution
+        final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(List.of("role=ADMIN", "savings>=100", "username=admin")));
+
+        // Response validation
+        Assertions.assertEquals("userEntity.role = ADMIN && userEntity.savings >= 100 && userEntity.username = admin", predicate.toString(), "Wrong predicate.");
+    }
+
+    @Test
+    void test_compile_sameCollectionFilters_returnSingleSubquery() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final QueryDslPredicateCompiler<UserEntity> independentCompiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES,
+                QueryDslCollectionsConfiguration.builder().independentFilters(true).build());
+        final List<String> filters = List.of("accounts.amount>=100", "role=ADMIN", "accounts.id.bank=bank_name");
+
+        // Test execution
+        final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(filters));
+        final BooleanExpression independentPredicate = independentCompiler.compile(QueryDslFiltersMapper.map(filters));
+
+        // Response validation
+        Assertions.assertEquals(1, StringUtils.countMatches(predicate.toString(), "exists"), "Filters over the same collection must share the subquery.");
+        Assertions.assertEquals(2, StringUtils.countMatches(independentPredicate.toString(), "any("), "Independent filters must use a subquery each.");
+    }
+
+    @Test
+    void test_compile_inSubqueryStrategy_returnSemiJoin() throws Exception {
+        // Test configuration
+        final QueryDslCollectionsConfiguration configuration = QueryDslCollectionsConfiguration.builder()
+                .strategy(QueryDslCollectionStrategy.IN_SUBQUERY)
+                .build();
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES, configuration);
+        final QueryDslPredicateCompiler<UserEntity> pathCompiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES,
+                configuration.toBuilder().pathStrategy("accounts", QueryDslCollectionStrategy.EXISTS).build());
+        final List<QueryDslFilter> filters = QueryDslFiltersMapper.map(List.of("accounts.amount>=100", "role=ADMIN", "accounts.id.bank=bank_name"));
+
+        // Test execution
+        final String predicate = new JPQLSerializer(JPQLTemplates.DEFAULT).handle(compiler.compile(filters)).toString();
+        final String pathPredicate = pathCompiler.compile(filters).toString();
+
+        // Response validation
+        Assertions.assertTrue(predicate.startsWith("userEntity in (select userEntity_accounts_owner"), String.format("Unexpected semi-join '%s'.", predicate));
+        Assertions.assertTrue(predicate.contains("inner join userEntity_accounts_owner.accounts as userEntity_accounts"), String.format("Unexpected semi-join '%s'.", predicate));
+        Assertions.assertFalse(predicate.contains("exists"), "Strategy IN_SUBQUERY must not use exists subqueries.");
+        Assertions.assertEquals(1, StringUtils.countMatches(pathPredicate, "exists"), "Collection strategy must override default strategy.");
+    }
+
+    @Test
+    void test_compile_planCacheSameShape_returnPredicateWithBoundValues() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final List<List<String>> requests = List.of(
+                List.of("role=ADMIN", "savings>=100", "in(name : Dan|Ana)", "createdOn>2020-01-01"),
+                List.of("role=USER", "savings>=2500", "in(name : Bob|Eve)", "createdOn>2021-06-14"));
+        final List<String> expectedPredicates = requests.stream()
+                .map(request -> compiler.compile(QueryDslFiltersMapper.map(request)).toString())
+                .toList();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+
+        for (int i = 0; i < requests.size(); i++) {
+            // Test execution
+            final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(requests.get(i)));
+
+            // Response validation
+            Assertions.assertEquals(expectedPredicates.get(i), predicate.toString(), "Wrong predicate.");
+        }
+
+        final LruCache.Statistics statistics = QueryDslPredicateCompiler.getPlanCacheStatistics().orElseThrow();
+        Assertions.assertEquals(1, statistics.hits(), "Second request must reuse the plan.");
+        Assertions.assertEquals(1, statistics.size(), "Filters with the same shape must share the plan.");
+    }
+
+    @Test
+    void test_compile_planCacheDayValues_returnPredicateWithDayBounds() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final List<List<String>> requests = List.of(
+                List.of("createdOn>2020-06-14", "lastUpdatedOn<=2021-11-27", "createdOn=2020-06-14"),
+                List.of("createdOn>2020-12-31", "lastUpdatedOn<=2022-01-01", "createdOn=2020-12-31"),
+                List.of("in(createdOn : 2020-06-14|2020-06-15)", "notIn(lastUpdatedOn : 2021-11-27)"),
+                List.of("in(createdOn : 2020-12-30|2020-12-31)", "notIn(lastUpdatedOn : 2022-01-01)"));
+        final List<String> expectedPredicates = requests.stream()
+                .map(request -> compiler.compile(QueryDslFiltersMapper.map(request)).toString())
+                .toList();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+
+        for (int i = 0; i < requests.size(); i++) {
+            // Test execution
+            final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(requests.get(i)));
+
+            // Response validation
+            Assertions.assertEquals(expectedPredicates.get(i), predicate.toString(), "Wrong predicate.");
+        }
+
+        Assertions.assertEquals("userEntity.createdOn >= 2021-01-01T00:00:00Z && userEntity.createdOn >= 2020-12-31T00:00:00Z"
+                + " && userEntity.createdOn < 2021-01-01T00:00:00Z && userEntity.lastUpdatedOn < 2022-01-02T00:00:00Z", expectedPredicates.get(1), "Wrong day bounds.");
+        Assertions.assertEquals("(userEntity.createdOn >= 2020-12-30T00:00:00Z && userEntity.createdOn < 2020-12-31T00:00:00Z"
+                + " || userEntity.createdOn >= 2020-12-31T00:00:00Z && userEntity.createdOn < 2021-01-01T00:00:00Z)"
+                + " && (userEntity.lastUpdatedOn < 2022-01-01T00:00:00Z || userEntity.lastUpdatedOn >= 2022-01-02T00:00:00Z)",
+                expectedPredicates.get(3), "Wrong in day bounds.");
+        Assertions.assertEquals(2, QueryDslPredicateCompiler.getPlanCacheStatistics().orElseThrow().hits(), "Requests with the same shape must reuse the plan.");
+    }
+
+    @Test
+    void test_compile_planCacheDifferentShape_returnPredicateOfEachShape() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final String expectedPredicate = compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Dan|Ana|Bob)"))).toString();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+        compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Dan|Ana)")));
+
+        // Test execution
+        final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Dan|Ana|Bob)")));
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate.toString(), "Wrong predicate.");
+        Assertions.assertEquals(0, QueryDslPredicateCompiler.getPlanCacheStatistics().orElseThrow().hits(), "Different shapes can't share the plan.");
+    }
+
+    @Test
+    void test_compile_planCacheRepeatedValues_returnPredicateFromTypeManagers() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, UserRepository.CUSTOM_TYPES);
+        final String expectedPredicate = compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Bob|Bob)"))).toString();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+        compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Dan|Ana)")));
+
+        // Test execution
+        final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(List.of("in(name : Bob|Bob)")));
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate.toString(), "Wrong predicate.");
+    }
+
+    @Test
+    void test_compile_planCacheValueNotInPredicate_returnPredicateFromTypeManagers() throws Exception {
+        // Test configuration
+        final QueryDslTypeManager anyRoleTypeManager = new QueryDslTypeManager() {
+            public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+                return UserRepository.CUSTOM_TYPES.isSupported(entityType, entityPath, filter);
+            }
+
+            public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+                return "ANY".equals(filter.getValue()) ? entityPath.get(filter.getKey()).isNotNull()
+                        : UserRepository.CUSTOM_TYPES.manage(entityType, entityPath, filter);
+            }
+        };
+        final QueryDslPredicateCompiler<UserEntity> compiler = new QueryDslPredicateCompiler<>(UserEntity.class, anyRoleTypeManager);
+        final String expectedPredicate = compiler.compile(QueryDslFiltersMapper.map(List.of("role=USER"))).toString();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+        compiler.compile(QueryDslFiltersMapper.map(List.of("role=ANY")));
+
+        // Test execution
+        final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(List.of("role=USER")));
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate.toString(), "Predicates without filter values can't be reused.");
+    }
+
+    @Test
+    void test_compile_planCacheIntegerBounds_returnPredicateOfEachValue() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<AgesEntity> compiler = new QueryDslPredicateCompiler<>(AgesEntity.class, null);
+        final List<List<String>> requests = List.of(
+                List.of("age<99999999999"), List.of("age<5"),
+                List.of("age>17"), List.of("age>99999999999"), List.of("age>=-99999999999"), List.of("age>=18"));
+        final List<String> expectedPredicates = requests.stream()
+                .map(request -> compiler.compile(QueryDslFiltersMapper.map(request)).toString())
+                .toList();
+
+        QueryDslPredicateCompiler.enablePlanCache(16);
+
+        for (int i = 0; i < requests.size(); i++) {
+            // Test execution
+            final BooleanExpression predicate = compiler.compile(QueryDslFiltersMapper.map(requests.get(i)));
+
+            // Response validation
+            Assertions.assertEquals(expectedPredicates.get(i), predicate.toString(), String.format("Wrong predicate for '%s'.", requests.get(i)));
+        }
+
+        Assertions.assertEquals(List.of("agesEntity.age is not null", "agesEntity.age < 5", "agesEntity.age > 17"), expectedPredicates.subList(0, 3), "Wrong bounds.");
+        Assertions.assertEquals(QueryDslPredicateBuilder.NONE.toString(), expectedPredicates.get(3), "Bounds over the type range can't match.");
+    }
+
+    private static class AgesEntity {
+        private int age;
+    }
+}
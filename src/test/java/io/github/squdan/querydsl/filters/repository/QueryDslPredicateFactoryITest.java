@@ -0,0 +1,68 @@
+package io.github.squdan.querydsl.filters.repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.PathBuilder;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class QueryDslPredicateFactoryITest {
+
+    @Test
+    void test_getPredicate_sameKey_selectTypeManagerOnce() throws Exception {
+        // Test configuration
+        final CountingTypeManager customTypeManager = new CountingTypeManager();
+        final QueryDslPredicateFactory factory = new QueryDslPredicateFactory(customTypeManager);
+
+        // Test execution
+        final BooleanExpression first = factory.getPredicate(UserEntity.class, new QueryDslFilter("role", QueryDslOperators.EQUALS, "ADMIN"));
+        final BooleanExpression second = factory.getPredicate(UserEntity.class, new QueryDslFilter("role", QueryDslOperators.NOT_EQUALS, "USER"));
+        factory.getPredicate(UserEntity.class, new QueryDslFilter("name", QueryDslOperators.EQUALS, "Dan"));
+        factory.getPredicate(UserEntity.class, new QueryDslFilter("name", QueryDslOperators.EQUALS, "Ana"));
+
+        // Response validation
+        Assertions.assertEquals("userEntity.role = ADMIN", first.toString(), "Wrong predicate.");
+        Assertions.assertEquals("userEntity.role != USER", second.toString(), "Wrong predicate.");
+        Assertions.assertEquals(2, customTypeManager.checks.get(), "Type manager must be selected once per key.");
+        Assertions.assertEquals(2, customTypeManager.executions.get(), "Custom type manager must manage its filters.");
+    }
+
+    @Test
+    void test_getPredicate_unknownKey_returnQueryDslFiltersException() throws Exception {
+        // Test configuration
+        final QueryDslPredicateFactory factory = new QueryDslPredicateFactory();
+        final QueryDslFilter filter = new QueryDslFilter("accounts.unknown", QueryDslOperators.EQUALS, "test_value");
+
+        // Test execution
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> factory.getPredicate(UserEntity.class, filter));
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> factory.getPredicate(UserEntity.class, filter));
+    }
+
+    private static final class CountingTypeManager implements QueryDslTypeManager {
+
+        // Configuration
+        private final QueryDslRolesTypeManager rolesTypeManager = new QueryDslRolesTypeManager();
+
+        // State
+        private final AtomicInteger checks = new AtomicInteger();
+        private final AtomicInteger executions = new AtomicInteger();
+
+        @Override
+        public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+            checks.incrementAndGet();
+            return rolesTypeManager.isSupported(entityType, entityPath, filter);
+        }
+
+        @Override
+        public <T> BooleanExpression manage(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
+            executions.incrementAndGet();
+            return rolesTypeManager.manage(entityType, entityPath, filter);
+        }
+    }
+}
@@ -5,13 +5,22 @@ import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.core.types.dsl.SimplePath;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
 import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslTypedValue;
+import io.github.squdan.querydsl.filters.QueryDslValueConverter;
 import io.github.squdan.querydsl.filters.repository.entity.Roles;
 import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslValueConverters;
+import io.github.squdan.querydsl.filters.util.InClauseUtils;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 @Slf4j
 public final class QueryDslRolesTypeManager implements QueryDslTypeManager {
 
+    // Configuration
+    private static final QueryDslValueConverter<Roles> ROLES_CONVERTER = QueryDslValueConverters.of(Roles.class, v -> Roles.valueOf(v.toString()));
+
     public <T> boolean isSupported(final Class<T> entityType, final PathBuilder<T> entityPath, final QueryDslFilter filter) {
         return Roles.class.isAssignableFrom(getTypeFrom(entityType, filter.getKey()));
     }
@@ -36,7 +45,9 @@ public final class QueryDslRolesTypeManager implements QueryDslTypeManager {
         final SimplePath<Roles> path = entityPath.getSimple(filter.getKey(), Roles.class);
 
         // Parse value
-        final Roles value = Roles.valueOf(String.valueOf(filter.getValue()));
+        final QueryDslTypedValue<Roles> typedValue = filter.getTypedValue(ROLES_CONVERTER);
+        final Roles value = typedValue.getValue();
+        final List<Roles> values = typedValue.getValues();
 
         // Process operator
         switch (filter.getOperator()) {
@@ -56,6 +67,12 @@ public final class QueryDslRolesTypeManager implements QueryDslTypeManager {
             case NON_EQUALS_FUNCTION_NE:
                 result = path.ne(value);
                 break;
+            case IN_FUNCTION:
+                result = InClauseUtils.in(filter, path, values);
+                break;
+            case NOT_IN_FUNCTION:
+                result = InClauseUtils.notIn(filter, path, values);
+                break;
             default:
                 final String errorMsg = String.format("Operation '%s' not supported for type 'Roles'.", filter.getOperator());
                 log.error(errorMsg);
@@ -1,6 +1,8 @@
 package io.github.squdan.querydsl.filters.repository;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
 import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersMapper;
 import io.github.squdan.querydsl.filters.QueryDslOperators;
 import io.github.squdan.querydsl.filters.configuration.DatabaseTestConfiguration;
 import io.github.squdan.querydsl.filters.configuration.TestQueryDslFiltersApplication;
@@ -8,14 +10,21 @@ import io.github.squdan.querydsl.filters.repository.entity.BankAccountEntity;
 import io.github.squdan.querydsl.filters.repository.entity.BankAccountId;
 import io.github.squdan.querydsl.filters.repository.entity.Roles;
 import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslStringMatchMode;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslStringTypeManager;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslStringsConfiguration;
+import io.github.squdan.querydsl.filters.repository.type.QueryDslTypeManagerRegistry;
 import io.github.squdan.querydsl.filters.util.DateTimeUtils;
 import jakarta.transaction.Transactional;
 import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.collections4.IteratorUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -25,10 +34,12 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 @SpringBootTest(classes = {TestQueryDslFiltersApplication.class, DatabaseTestConfiguration.class, UserRepository.class})
@@ -102,6 +113,7 @@ public class UserRepositoryITest {
 
                 // Not null
                 Arguments.of(new QueryDslFilter("username", QueryDslOperators.NON_NULL_FUNCTION), List.of(ADMIN, USER)),
+                Arguments.of(new QueryDslFilter("savings", QueryDslOperators.NON_NULL_FUNCTION), List.of(ADMIN)),
 
                 // Equals
                 Arguments.of(new QueryDslFilter("name", QueryDslOperators.EQUALS, ADMIN.getName()), List.of(ADMIN)),
@@ -272,7 +284,29 @@ public class UserRepositoryITest {
 
                 // Lower than or equals (Dates)
                 Arguments.of(new QueryDslFilter("accounts.user.lastUpdatedOn", QueryDslOperators.LOWER_THAN_OR_EQUALS, ADMIN.getLastUpdatedOn().plus(1, ChronoUnit.DAYS)), CollectionUtils.emptyCollection()),
-                Arguments.of(new QueryDslFilter("accounts.user.lastUpdatedOn", QueryDslOperators.LOWER_THAN_OR_EQUALS, ADMIN.getLastUpdatedOn()), CollectionUtils.emptyCollection())
+                Arguments.of(new QueryDslFilter("accounts.user.lastUpdatedOn", QueryDslOperators.LOWER_THAN_OR_EQUALS, ADMIN.getLastUpdatedOn()), CollectionUtils.emptyCollection()),
+
+                // Days (Dates)
+                Arguments.of(new QueryDslFilter("createdOn", QueryDslOperators.EQUALS, "2020-06-14"), List.of(ADMIN)),
+                Arguments.of(new QueryDslFilter("createdOn", QueryDslOperators.NOT_EQUALS, "2020-06-14"), List.of(USER)),
+                Arguments.of(new QueryDslFilter("createdOn", QueryDslOperators.GREATER_THAN, "2020-06-13"), List.of(ADMIN, USER)),
+                Arguments.of(new QueryDslFilter("createdOn", QueryDslOperators.GREATER_THAN, "2020-06-14"), List.of(USER)),
+                Arguments.of(new QueryDslFilter("lastUpdatedOn", QueryDslOperators.LOWER_THAN_OR_EQUALS, "2021-11-27"), List.of(ADMIN)),
+                Arguments.of(new QueryDslFilter("lastUpdatedOn", QueryDslOperators.LOWER_THAN_OR_EQUALS, "2021-11-26"), CollectionUtils.emptyCollection()),
+
+                // In
+                Arguments.of(new QueryDslFilter("username", QueryDslOperators.IN_FUNCTION, "admin|user|other"), List.of(ADMIN, USER)),
+                Arguments.of(new QueryDslFilter("role", QueryDslOperators.IN_FUNCTION, List.of(Roles.USER)), List.of(USER)),
+                Arguments.of(new QueryDslFilter("savings", QueryDslOperators.IN_FUNCTION, "35.5|1000"), List.of(ADMIN)),
+                Arguments.of(new QueryDslFilter("id", QueryDslOperators.IN_FUNCTION, List.of(ADMIN.getId(), UUID.randomUUID())), List.of(ADMIN)),
+                Arguments.of(new QueryDslFilter("createdOn", QueryDslOperators.IN_FUNCTION, "2020-06-14T00:04:00Z|2020-06-15T00:04:00Z"), List.of(ADMIN)),
+                Arguments.of(new QueryDslFilter("accounts.amount", QueryDslOperators.IN_FUNCTION, "10|20|30"), List.of(USER)),
+                Arguments.of(new QueryDslFilter("username", QueryDslOperators.IN_FUNCTION, IntStream.range(0, 1500).mapToObj(i -> "user" + i).toList()), CollectionUtils.emptyCollection()),
+
+                // Not in
+                Arguments.of(new QueryDslFilter("username", QueryDslOperators.NOT_IN_FUNCTION, "admin|other"), List.of(USER)),
+                Arguments.of(new QueryDslFilter("role", QueryDslOperators.NOT_IN_FUNCTION, "ADMIN|USER"), CollectionUtils.emptyCollection()),
+                Arguments.of(new QueryDslFilter("id", QueryDslOperators.NOT_IN_FUNCTION, USER.getId()), List.of(ADMIN))
         );
     }
 
@@ -303,6 +337,187 @@ public class UserRepositoryITest {
         });
     }
 
+    private static Stream<Arguments> provideMultipleFiltersTestCases() {
+        return Stream.of(
+                // Redundant filters
+                Arguments.of(List.of("savings>10", "savings>20", "savings<=35.5"), List.of(ADMIN)),
+                Arguments.of(List.of("in(savings : 35.5|1000)", "savings=35.50"), List.of(ADMIN)),
+                Arguments.of(List.of("role=USER", "role=USER", "isNull(lastName)"), List.of(USER)),
+
+                // Filters over the same collection must match the same element
+                Arguments.of(List.of("accounts.id.bank=bank_name", "accounts.amount<100"), List.of(USER)),
+                Arguments.of(List.of("accounts.id.bank=bank_name2", "accounts.amount<100"), CollectionUtils.emptyCollection()),
+
+                // Filters that can never match together
+                Arguments.of(List.of("savings>20", "savings<10"), CollectionUtils.emptyCollection()),
+                Arguments.of(List.of("isNull(savings)", "savings>=0"), CollectionUtils.emptyCollection())
+        );
+    }
+
+    @Transactional
+    @ParameterizedTest
+    @MethodSource("provideMultipleFiltersTestCases")
+    void test_findAll_multipleFilters_returnExpectedResults(final List<String> filters, final List<UserEntity> expectedResult) throws Exception {
+        // Test execution
+        final Page<UserEntity> mayResults = userRepository.findAll(QueryDslFiltersMapper.map(filters), null);
+
+        // Response validation
+        Assertions.assertTrue(Objects.nonNull(mayResults), "Results searching with QueryDslFilters is null.");
+        Assertions.assertEquals(expectedResult.size(), mayResults.getTotalElements(), String.format("Results number aren't equals for filters '%s'.", filters));
+        mayResults.forEach(r -> Assertions.assertEquals(searchUserEntityById(expectedResult, r.getId()).getUsername(), r.getUsername(), "Wrong username"));
+    }
+
+    @Transactional
+    @Test
+    void test_findAll_twoSearches_useSameCompiler() throws Exception {
+        // Test configuration
+        final QueryDslPredicateCompiler<UserEntity> compiler = userRepository.getPredicateCompiler();
+
+        // Test execution
+        final Page<UserEntity> adminResults = userRepository.findAll(QueryDslFiltersMapper.map(List.of("role=ADMIN")), null);
+        final Page<UserEntity> userResults = userRepository.findAll(QueryDslFiltersMapper.map(List.of("role=USER")), null);
+
+        // Response validation
+        Assertions.assertEquals(List.of(ADMIN.getUsername()), adminResults.stream().map(UserEntity::getUsername).toList(), "Wrong results.");
+        Assertions.assertEquals(List.of(USER.getUsername()), userResults.stream().map(UserEntity::getUsername).toList(), "Wrong results.");
+        Assertions.assertSame(compiler, userRepository.getPredicateCompiler(), "Searches must use the same compiler.");
+        Assertions.assertSame(QueryDslPredicateCompiler.of(UserEntity.class, UserRepository.CUSTOM_TYPES, QueryDslCollectionsConfiguration.DEFAULT),
+                compiler, "Repository must use the shared compiler of its configuration.");
+    }
+
+    @Test
+    void test_findAll_independentCollectionFilters_returnElementsMatchingEachFilter() throws Exception {
+        // Test configuration
+        final BooleanExpression predicate = new QueryDslPredicateBuilder<>(UserEntity.class)
+                .addCustomTypeManager(UserRepository.CUSTOM_TYPES)
+                .withCollectionsConfiguration(QueryDslCollectionsConfiguration.builder().independentFilters(true).build())
+                .with(QueryDslFiltersMapper.map(List.of("accounts.id.bank=bank_name2", "accounts.amount<100")))
+                .build();
+
+        // Test execution
+        final List<UserEntity> results = IteratorUtils.toList(userRepository.findAll(predicate).iterator());
+
+        // Response validation
+        Assertions.assertEquals(List.of(USER.getUsername()), results.stream().map(UserEntity::getUsername).toList(), "Each filter may match a different account.");
+    }
+
+    @Transactional
+    @ParameterizedTest
+    @EnumSource(QueryDslCollectionStrategy.class)
+    void test_findAll_collectionStrategy_returnSameResults(final QueryDslCollectionStrategy strategy) throws Exception {
+        // Test configuration
+        final QueryDslCollectionsConfiguration configuration = QueryDslCollectionsConfiguration.builder().strategy(strategy).build();
+        final List<QueryDslFilter> filters = QueryDslFiltersMapper.map(List.of("accounts.id.bank=bank_name2", "accounts.amount<100"));
+        final BooleanExpression predicate = new QueryDslPredicateBuilder<>(UserEntity.class)
+                .addCustomTypeManager(UserRepository.CUSTOM_TYPES)
+                .withCollectionsConfiguration(configuration)
+                .with(filters)
+                .build();
+        final BooleanExpression independentPredicate = new QueryDslPredicateBuilder<>(UserEntity.class)
+                .addCustomTypeManager(UserRepository.CUSTOM_TYPES)
+                .withCollectionsConfiguration(configuration.toBuilder().independentFilters(true).build())
+                .with(filters)
+                .build();
+
+        // Test execution
+        final List<UserEntity> results = IteratorUtils.toList(userRepository.findAll(predicate).iterator());
+        final List<UserEntity> independentResults = IteratorUtils.toList(userRepository.findAll(independentPredicate).iterator());
+
+        // Response validation
+        Assertions.assertTrue(results.isEmpty(), String.format("Strategy '%s' must match filters with the same account.", strategy));
+        Assertions.assertEquals(List.of(USER.getUsername()), independentResults.stream().map(UserEntity::getUsername).toList(),
+                String.format("Strategy '%s' must return each user once.", strategy));
+    }
+
+    private static Stream<Arguments> provideStringsConfigurationTestCases() {
+        final QueryDslStringsConfiguration caseSensitive = QueryDslStringsConfiguration.builder().matchMode(QueryDslStringMatchMode.CASE_SENSITIVE).build();
+        final QueryDslStringsConfiguration lowerCase = QueryDslStringsConfiguration.builder().matchMode(QueryDslStringMatchMode.LOWER_CASE).build();
+        final QueryDslStringsConfiguration byField = QueryDslStringsConfiguration.builder()
+                .fieldMatchMode("name", QueryDslStringMatchMode.CASE_SENSITIVE)
+                .fieldMatchMode("id.bank", QueryDslStringMatchMode.CASE_SENSITIVE)
+                .ignoreCaseEqualsField("username")
+                .build();
+
+        return Stream.of(
+                // Case-sensitive
+                Arguments.of(caseSensitive, "starts(username : adm)", List.of(ADMIN)),
+                Arguments.of(caseSensitive, "starts(username : ADM)", CollectionUtils.emptyCollection()),
+                Arguments.of(caseSensitive, "contains(name : Name)", List.of(ADMIN, USER)),
+                Arguments.of(caseSensitive, "contains(name : name)", CollectionUtils.emptyCollection()),
+                Arguments.of(caseSensitive, "ends(name : name)", CollectionUtils.emptyCollection()),
+                Arguments.of(caseSensitive, "username=ADMIN", CollectionUtils.emptyCollection()),
+
+                // Case-insensitive with functional index
+                Arguments.of(lowerCase, "starts(name : ADMIN)", List.of(ADMIN)),
+                Arguments.of(lowerCase, "starts(name : USER)", List.of(USER)),
+                Arguments.of(lowerCase, "ends(name : NAME)", List.of(ADMIN, USER)),
+
+                // By field
+                Arguments.of(byField, "starts(username : ADM)", List.of(ADMIN)),
+                Arguments.of(byField, "starts(name : admin)", CollectionUtils.emptyCollection()),
+                Arguments.of(byField, "starts(accounts.id.bank : bank_name2)", List.of(USER)),
+                Arguments.of(byField, "starts(accounts.id.bank : BANK)", CollectionUtils.emptyCollection()),
+                Arguments.of(byField, "username=ADMIN", List.of(ADMIN)),
+                Arguments.of(byField, "ne(username : ADMIN)", List.of(USER)),
+                Arguments.of(byField, "password=TEST", CollectionUtils.emptyCollection())
+        );
+    }
+
+    @Transactional
+    @ParameterizedTest
+    @MethodSource("provideStringsConfigurationTestCases")
+    void test_findAll_stringsConfiguration_returnExpectedResults(final QueryDslStringsConfiguration configuration, final String filter,
+                                                                 final Collection<UserEntity> expectedResult) throws Exception {
+        // Test configuration
+        final QueryDslTypeManagerRegistry customTypes = new QueryDslTypeManagerRegistry()
+                .register(Roles.class, UserRepository.CUSTOM_TYPES)
+                .register(String.class, new QueryDslStringTypeManager(configuration));
+        final BooleanExpression predicate = new QueryDslPredicateBuilder<>(UserEntity.class)
+                .addCustomTypeManager(customTypes)
+                .with(QueryDslFiltersMapper.map(List.of(filter)))
+                .build();
+
+        // Test execution
+        final List<UserEntity> results = IteratorUtils.toList(userRepository.findAll(predicate).iterator());
+
+        // Response validation
+        Assertions.assertEquals(expectedResult.stream().map(UserEntity::getUsername).sorted().toList(),
+                results.stream().map(UserEntity::getUsername).sorted().toList(), String.format("Wrong results for filter '%s'.", filter));
+    }
+
+    private static Stream<Arguments> provideFilterExpressionTestCases() {
+        return Stream.of(
+                // Or
+                Arguments.of("role=ADMIN or savings>1000", List.of(ADMIN)),
+                Arguments.of("role=USER or savings>35", List.of(ADMIN, USER)),
+                Arguments.of("accounts.amount>5000 OR role=ADMIN", List.of(ADMIN, USER)),
+
+                // And / Not / Grouping
+                Arguments.of("(role=ADMIN or role=USER) and isNull(lastName)", List.of(USER)),
+                Arguments.of("not role=ADMIN", List.of(USER)),
+                Arguments.of("not (contains(username, adm) or nonNull(lastName))", List.of(USER)),
+                Arguments.of("in(role, ADMIN|USER) and not in(username, admin)", List.of(USER)),
+
+                // Constants
+                Arguments.of("true", List.of(ADMIN, USER)),
+                Arguments.of("false or role=ADMIN", List.of(ADMIN)),
+                Arguments.of("role=ADMIN and (false or not true)", CollectionUtils.emptyCollection())
+        );
+    }
+
+    @Transactional
+    @ParameterizedTest
+    @MethodSource("provideFilterExpressionTestCases")
+    void test_findAll_filterExpression_returnExpectedResults(final String expression, final List<UserEntity> expectedResult) throws Exception {
+        // Test execution
+        final Page<UserEntity> mayResults = userRepository.findAll(QueryDslFiltersMapper.mapExpression(expression), null);
+
+        // Response validation
+        Assertions.assertTrue(Objects.nonNull(mayResults), "Results searching with QueryDslFilterExpression is null.");
+        Assertions.assertEquals(expectedResult.size(), mayResults.getTotalElements(), String.format("Results number aren't equals for expression '%s'.", expression));
+        mayResults.forEach(r -> Assertions.assertEquals(searchUserEntityById(expectedResult, r.getId()).getUsername(), r.getUsername(), "Wrong username"));
+    }
+
     private UserEntity searchUserEntityById(final List<UserEntity> users, final UUID id) {
         return users.stream().filter(u -> u.getId().equals(id)).findFirst().orElseThrow();
     }
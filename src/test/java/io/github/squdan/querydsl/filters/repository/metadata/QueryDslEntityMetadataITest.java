@@ -0,0 +1,129 @@
+package io.github.squdan.querydsl.filters.repository.metadata;
+
+import io.github.squdan.querydsl.filters.repository.entity.BankAccountEntity;
+import io.github.squdan.querydsl.filters.repository.entity.BankAccountId;
+import io.github.squdan.querydsl.filters.repository.entity.Roles;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntityFilterDescriptor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class QueryDslEntityMetadataITest {
+
+    private static Stream<Arguments> provideFieldTestCases() {
+        return Stream.of(
+                // Path, type, element type, collection, collection path
+                Arguments.of("role", Roles.class, Roles.class, false, null),
+                Arguments.of("savings", BigDecimal.class, BigDecimal.class, false, null),
+                Arguments.of("accounts", List.class, BankAccountEntity.class, true, "accounts"),
+                Arguments.of("accounts.amount", BigDecimal.class, BigDecimal.class, false, "accounts"),
+                Arguments.of("accounts.id.bank", String.class, String.class, false, "accounts"),
+                Arguments.of("accounts.user.accounts", List.class, BankAccountEntity.class, true, "accounts"),
+                Arguments.of("accounts.user.savings", BigDecimal.class, BigDecimal.class, false, "accounts")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideFieldTestCases")
+    void test_getField_path_returnExpectedMetadata(final String path, final Class<?> type, final Class<?> elementType,
+                                                   final boolean collection, final String collectionPath) throws Exception {
+        // Test execution
+        final QueryDslFieldMetadata metadata = QueryDslEntityMetadata.of(UserEntity.class).getField(path).orElseThrow();
+
+        // Response validation
+        Assertions.assertEquals(path, metadata.path(), "Wrong path.");
+        Assertions.assertEquals(type, metadata.type(), "Wrong type.");
+        Assertions.assertEquals(elementType, metadata.elementType(), "Wrong element type.");
+        Assertions.assertEquals(collection, metadata.collection(), "Wrong collection flag.");
+        Assertions.assertEquals(collectionPath, metadata.collectionPath(), "Wrong collection path.");
+        Assertions.assertSame(metadata, QueryDslEntityMetadata.of(UserEntity.class).getField(path).orElseThrow(), "Metadata must be resolved only once.");
+    }
+
+    @Test
+    void test_getField_moreCyclicPathsThanKept_returnExpectedMetadata() throws Exception {
+        // Test configuration
+        final QueryDslEntityMetadata metadata = QueryDslEntityMetadata.of(UserEntity.class);
+        final StringBuilder path = new StringBuilder("accounts");
+
+        // Test execution & Response validation
+        for (int i = 0; i < 1500; i++) {
+            path.append(".user.accounts");
+            Assertions.assertEquals(BigDecimal.class, metadata.getField(path + ".amount").orElseThrow().type(), "Wrong type.");
+        }
+
+        Assertions.assertEquals(BigDecimal.class, metadata.getField("accounts.user.savings").orElseThrow().type(), "Wrong type.");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "unknown", "accounts.unknown", "role.unknown", "accounts.id.unknown"})
+    void test_getField_unknownPath_returnEmpty(final String path) throws Exception {
+        // Test execution
+        final boolean found = QueryDslEntityMetadata.of(UserEntity.class).getField(path).isPresent();
+
+        // Response validation
+        Assertions.assertFalse(found, String.format("Path '%s' shouldn't be found.", path));
+    }
+
+    @Test
+    void test_getField_superclassField_returnExpectedMetadata() throws Exception {
+        // Test execution
+        final QueryDslFieldMetadata metadata = QueryDslEntityMetadata.of(ChildEntity.class).getField("parentField.bank").orElseThrow();
+
+        // Response validation
+        Assertions.assertEquals(String.class, metadata.type(), "Superclass fields must be found.");
+        Assertions.assertSame(QueryDslEntityMetadata.of(ChildEntity.class), QueryDslEntityMetadata.of(ChildEntity.class), "Metadata must be shared.");
+    }
+
+    @Test
+    void test_of_entityWithDescriptor_returnMetadataFromDescriptor() throws Exception {
+        // Test configuration
+        final QueryDslFilterDescriptor descriptor = new UserEntityFilterDescriptor();
+
+        // Test execution
+        final QueryDslEntityMetadata metadata = QueryDslEntityMetadata.of(UserEntity.class);
+
+        // Response validation
+        Assertions.assertEquals(UserEntity.class, descriptor.getEntityType(), "Wrong descriptor entity type.");
+        Assertions.assertEquals("userEntity", metadata.getVariableName(), "Wrong variable name.");
+        Assertions.assertEquals(
+                Set.of("id", "username", "password", "role", "name", "lastName", "savings", "accounts", "createdOn", "lastUpdatedOn"),
+                descriptor.getFields().keySet(),
+                "Wrong descriptor fields."
+        );
+
+        descriptor.getFields().forEach((name, field) -> {
+            final QueryDslFieldMetadata fieldMetadata = metadata.getField(name).orElseThrow();
+            Assertions.assertEquals(field.type(), fieldMetadata.type(), "Wrong type.");
+            Assertions.assertEquals(field.elementType(), fieldMetadata.elementType(), "Wrong element type.");
+        });
+    }
+
+    @Test
+    void test_of_entityWithoutDescriptor_returnMetadataFromReflection() throws Exception {
+        // Test execution
+        final QueryDslEntityMetadata metadata = QueryDslEntityMetadata.of(ChildEntity.class);
+
+        // Response validation
+        Assertions.assertEquals("childEntity", metadata.getVariableName(), "Wrong variable name.");
+        Assertions.assertEquals(String.class, metadata.getField("childField").orElseThrow().type(), "Wrong type.");
+        Assertions.assertTrue(metadata.getField("CONSTANT").isEmpty(), "Static fields shouldn't be found.");
+    }
+
+    private static class ParentEntity {
+        private BankAccountId parentField;
+    }
+
+    private static class ChildEntity extends ParentEntity {
+        private static final String CONSTANT = "constant";
+        private String childField;
+    }
+}
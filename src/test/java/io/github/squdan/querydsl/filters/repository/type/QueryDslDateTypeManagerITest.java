@@ -0,0 +1,153 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.repository.QueryDslPathBuilder;
+import io.github.squdan.querydsl.filters.util.DateTimeFormats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class QueryDslDateTypeManagerITest {
+
+    // Class to test
+    private static final QueryDslDateTypeManager DATE_TYPE_MANAGER = new QueryDslDateTypeManager();
+
+    // Test data
+    private static final Instant INSTANT = Instant.parse("2020-06-14T10:30:15Z");
+
+    private static Stream<Arguments> provideValueTypeTestCases() {
+        return Stream.of(
+                Arguments.of("instant", "2020-06-14T10:30:15Z", INSTANT),
+                Arguments.of("localDateTime", "2020-06-14T10:30:15Z", LocalDateTime.of(2020, 6, 14, 10, 30, 15)),
+                Arguments.of("offsetDateTime", "2020-06-14T10:30:15Z", OffsetDateTime.of(2020, 6, 14, 10, 30, 15, 0, ZoneOffset.UTC)),
+                Arguments.of("zonedDateTime", "2020-06-14T10:30:15Z", ZonedDateTime.of(2020, 6, 14, 10, 30, 15, 0, ZoneOffset.UTC)),
+                Arguments.of("date", "2020-06-14T10:30:15Z", Date.from(INSTANT)),
+                Arguments.of("timestamp", "2020-06-14T10:30:15Z", Timestamp.from(INSTANT)),
+                Arguments.of("localDate", "2020-06-14", LocalDate.of(2020, 6, 14)),
+                Arguments.of("sqlDate", "2020-06-14", java.sql.Date.valueOf(LocalDate.of(2020, 6, 14))),
+                Arguments.of("instant", OffsetDateTime.of(2020, 6, 14, 12, 30, 15, 0, ZoneOffset.ofHours(2)), INSTANT)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideValueTypeTestCases")
+    void test_manage_fieldType_returnPredicateWithFieldTypeValue(final String field, final Object value, final Object expectedValue) throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter(field, QueryDslOperators.GREATER_THAN_OR_EQUALS, value);
+
+        // Test execution
+        final BooleanExpression predicate = DATE_TYPE_MANAGER.manage(DatesEntity.class, QueryDslPathBuilder.of(DatesEntity.class), filter);
+
+        // Response validation
+        final Operation<?> operation = (Operation<?>) predicate;
+        final Object predicateValue = ((Constant<?>) operation.getArg(1)).getConstant();
+        Assertions.assertEquals(expectedValue, predicateValue, String.format("Wrong value for field '%s'.", field));
+        Assertions.assertEquals(expectedValue.getClass(), predicateValue.getClass(), String.format("Wrong value type for field '%s'.", field));
+        Assertions.assertEquals(expectedValue.getClass(), operation.getArg(0).getType(), String.format("Wrong path type for field '%s'.", field));
+    }
+
+    private static Stream<Arguments> provideDayTestCases() {
+        return Stream.of(
+                Arguments.of("instant", QueryDslOperators.EQUALS, "2020-06-14",
+                        "datesEntity.instant >= 2020-06-14T00:00:00Z && datesEntity.instant < 2020-06-15T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.NOT_EQUALS, "2020-06-14",
+                        "datesEntity.instant < 2020-06-14T00:00:00Z || datesEntity.instant >= 2020-06-15T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.GREATER_THAN, "2020-06-14", "datesEntity.instant >= 2020-06-15T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.GREATER_THAN_OR_EQUALS, "2020-06-14", "datesEntity.instant >= 2020-06-14T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.LOWER_THAN, "2020-06-14", "datesEntity.instant < 2020-06-14T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.LOWER_THAN_OR_EQUALS, "2020-06-14", "datesEntity.instant < 2020-06-15T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.EQUALS, "2020-06-14T00:00:00Z", "datesEntity.instant = 2020-06-14T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.GREATER_THAN, "2020-06-14T00:00:00Z", "datesEntity.instant > 2020-06-14T00:00:00Z"),
+                Arguments.of("localDateTime", QueryDslOperators.EQUALS, LocalDate.of(2020, 12, 31),
+                        "datesEntity.localDateTime >= 2020-12-31T00:00 && datesEntity.localDateTime < 2021-01-01T00:00"),
+                Arguments.of("localDate", QueryDslOperators.GREATER_THAN, "2020-06-14", "datesEntity.localDate > 2020-06-14"),
+                Arguments.of("instant", QueryDslOperators.IN_FUNCTION, "2020-06-14|2020-06-20",
+                        "datesEntity.instant >= 2020-06-14T00:00:00Z && datesEntity.instant < 2020-06-15T00:00:00Z || "
+                                + "datesEntity.instant >= 2020-06-20T00:00:00Z && datesEntity.instant < 2020-06-21T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.NOT_IN_FUNCTION, "2020-06-14|2020-06-20",
+                        "(datesEntity.instant < 2020-06-14T00:00:00Z || datesEntity.instant >= 2020-06-15T00:00:00Z) && "
+                                + "(datesEntity.instant < 2020-06-20T00:00:00Z || datesEntity.instant >= 2020-06-21T00:00:00Z)"),
+                Arguments.of("instant", QueryDslOperators.IN_FUNCTION, "2020-06-14|2020-06-20T10:30:15Z",
+                        "datesEntity.instant >= 2020-06-14T00:00:00Z && datesEntity.instant < 2020-06-15T00:00:00Z || datesEntity.instant = 2020-06-20T10:30:15Z"),
+                Arguments.of("instant", QueryDslOperators.NOT_IN_FUNCTION, List.of(LocalDate.of(2020, 6, 14)),
+                        "datesEntity.instant < 2020-06-14T00:00:00Z || datesEntity.instant >= 2020-06-15T00:00:00Z"),
+                Arguments.of("instant", QueryDslOperators.IN_FUNCTION, "2020-06-14T10:30:15Z|2020-06-20T10:30:15Z",
+                        "datesEntity.instant in [2020-06-14T10:30:15Z, 2020-06-20T10:30:15Z]"),
+                Arguments.of("localDate", QueryDslOperators.IN_FUNCTION, "2020-06-14|2020-06-20",
+                        "datesEntity.localDate in [2020-06-14, 2020-06-20]")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideDayTestCases")
+    void test_manage_dayValue_returnDayBounds(final String field, final QueryDslOperators operator, final Object value,
+                                              final String expectedPredicate) throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter(field, operator, value);
+
+        // Test execution
+        final BooleanExpression predicate = DATE_TYPE_MANAGER.manage(DatesEntity.class, QueryDslPathBuilder.of(DatesEntity.class), filter);
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate.toString(), String.format("Wrong predicate for '%s %s %s'.", field, operator, value));
+    }
+
+    @Test
+    void test_manage_unsupportedDateType_throwException() throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter("localTime", QueryDslOperators.EQUALS, "10:30");
+
+        // Test execution & Response validation
+        Assertions.assertThrows(QueryDslFiltersException.class,
+                () -> DATE_TYPE_MANAGER.manage(DatesEntity.class, QueryDslPathBuilder.of(DatesEntity.class), filter));
+    }
+
+    @Test
+    void test_manage_managerFormats_returnPredicateWithParsedValue() throws Exception {
+        // Test configuration
+        final QueryDslDateTypeManager dateTypeManager = new QueryDslDateTypeManager(DateTimeFormats.DEFAULT
+                .withDateTimeFormat(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")));
+        final QueryDslFilter filter = new QueryDslFilter("localDateTime", QueryDslOperators.EQUALS, "14/06/2020 10:30:15");
+
+        // Test execution
+        final BooleanExpression predicate = dateTypeManager.manage(DatesEntity.class, QueryDslPathBuilder.of(DatesEntity.class), filter);
+
+        // Response validation
+        Assertions.assertEquals("datesEntity.localDateTime = 2020-06-14T10:30:15", predicate.toString(), "Wrong predicate.");
+        Assertions.assertThrows(QueryDslFiltersException.class,
+                () -> DATE_TYPE_MANAGER.manage(DatesEntity.class, QueryDslPathBuilder.of(DatesEntity.class), filter),
+                "Formats of a manager can't be used by other managers.");
+    }
+
+    private static class DatesEntity {
+        private Instant instant;
+        private LocalDateTime localDateTime;
+        private OffsetDateTime offsetDateTime;
+        private ZonedDateTime zonedDateTime;
+        private Date date;
+        private Timestamp timestamp;
+        private LocalDate localDate;
+        private java.sql.Date sqlDate;
+        private LocalTime localTime;
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.repository.QueryDslPathBuilder;
+import io.github.squdan.querydsl.filters.repository.QueryDslPredicateBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+public class QueryDslNumberTypeManagerITest {
+
+    // Class to test
+    private static final QueryDslNumberTypeManager NUMBER_TYPE_MANAGER = new QueryDslNumberTypeManager();
+
+    private static Stream<Arguments> provideValueTypeTestCases() {
+        return Stream.of(
+                Arguments.of("amount", "100.10", new BigDecimal("100.10")),
+                Arguments.of("big", "12345678901234567890", new BigInteger("12345678901234567890")),
+                Arguments.of("visits", "9007199254740993", 9007199254740993L),
+                Arguments.of("age", "42", 42),
+                Arguments.of("score", "7", 7),
+                Arguments.of("level", "3", (short) 3),
+                Arguments.of("ratio", "0.5", 0.5f),
+                Arguments.of("weight", "0.1", 0.1d)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideValueTypeTestCases")
+    void test_manage_fieldType_returnPredicateWithFieldTypeValue(final String field, final String value, final Object expectedValue) throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter(field, QueryDslOperators.GREATER_THAN_OR_EQUALS, value);
+
+        // Test execution
+        final BooleanExpression predicate = NUMBER_TYPE_MANAGER.manage(NumbersEntity.class, QueryDslPathBuilder.of(NumbersEntity.class), filter);
+
+        // Response validation
+        Assertions.assertEquals(expectedValue, getValue(predicate), String.format("Wrong value for field '%s'.", field));
+    }
+
+    private static Stream<Arguments> provideIntegerBoundTestCases() {
+        return Stream.of(
+                Arguments.of(QueryDslOperators.GREATER_THAN, "17.5", "numbersEntity.age > 17"),
+                Arguments.of(QueryDslOperators.GREATER_THAN_OR_EQUALS, "17.5", "numbersEntity.age >= 18"),
+                Arguments.of(QueryDslOperators.LOWER_THAN, "17.5", "numbersEntity.age < 18"),
+                Arguments.of(QueryDslOperators.LOWER_THAN_OR_EQUALS, "17.5", "numbersEntity.age <= 17"),
+                Arguments.of(QueryDslOperators.GREATER_THAN, "-17.5", "numbersEntity.age > -18"),
+                Arguments.of(QueryDslOperators.LOWER_THAN_OR_EQUALS, "17.0", "numbersEntity.age <= 17"),
+                Arguments.of(QueryDslOperators.LOWER_THAN, "3000000000", "numbersEntity.age is not null"),
+                Arguments.of(QueryDslOperators.GREATER_THAN, "-3000000000", "numbersEntity.age is not null")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideIntegerBoundTestCases")
+    void test_manage_integerFieldOutOfTypeValue_returnIntegerBound(final QueryDslOperators operator, final String value,
+                                                                   final String expectedPredicate) throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter("age", operator, value);
+
+        // Test execution
+        final BooleanExpression predicate = NUMBER_TYPE_MANAGER.manage(NumbersEntity.class, QueryDslPathBuilder.of(NumbersEntity.class), filter);
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate.toString(), String.format("Wrong predicate for '%s %s'.", operator, value));
+    }
+
+    @Test
+    void test_manage_integerFieldUnreachableBound_returnNone() throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter("level", QueryDslOperators.GREATER_THAN_OR_EQUALS, "40000");
+
+        // Test execution
+        final BooleanExpression predicate = NUMBER_TYPE_MANAGER.manage(NumbersEntity.class, QueryDslPathBuilder.of(NumbersEntity.class), filter);
+
+        // Response validation
+        Assertions.assertSame(QueryDslPredicateBuilder.NONE, predicate, "Bounds over the field type can't match.");
+    }
+
+    @Test
+    void test_manage_integerFieldEqualsOutOfTypeValue_throwException() throws Exception {
+        // Test configuration
+        final QueryDslFilter filter = new QueryDslFilter("age", QueryDslOperators.EQUALS, "17.5");
+
+        // Test execution & Response validation
+        Assertions.assertThrows(QueryDslFiltersException.class,
+                () -> NUMBER_TYPE_MANAGER.manage(NumbersEntity.class, QueryDslPathBuilder.of(NumbersEntity.class), filter));
+    }
+
+    private static Object getValue(final BooleanExpression predicate) {
+        return ((Constant<?>) ((Operation<?>) predicate).getArg(1)).getConstant();
+    }
+
+    private static class NumbersEntity {
+        private BigDecimal amount;
+        private BigInteger big;
+        private long visits;
+        private int age;
+        private Integer score;
+        private short level;
+        private float ratio;
+        private Double weight;
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.repository.QueryDslPathBuilder;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+public class QueryDslStringTypeManagerITest {
+
+    private static Stream<Arguments> provideStartsWithTestCases() {
+        return Stream.of(
+                Arguments.of(QueryDslStringMatchMode.IGNORE_CASE, "Adm",
+                        "startsWithIgnoreCase(userEntity.username,Adm)"),
+                Arguments.of(QueryDslStringMatchMode.CASE_SENSITIVE, "Adm",
+                        "userEntity.username >= Adm && userEntity.username < Adn && startsWith(userEntity.username,Adm)"),
+                Arguments.of(QueryDslStringMatchMode.LOWER_CASE, "Adm",
+                        "lower(userEntity.username) >= adm && lower(userEntity.username) < adn && startsWithIgnoreCase(userEntity.username,Adm)"),
+                Arguments.of(QueryDslStringMatchMode.LOWER_CASE, "\u00C1dm",
+                        "startsWithIgnoreCase(userEntity.username,\u00C1dm)"),
+                Arguments.of(QueryDslStringMatchMode.CASE_SENSITIVE, "a" + Character.MAX_VALUE,
+                        "userEntity.username >= a" + Character.MAX_VALUE + " && userEntity.username < b && startsWith(userEntity.username,a" + Character.MAX_VALUE + ")"),
+                Arguments.of(QueryDslStringMatchMode.CASE_SENSITIVE, "",
+                        "userEntity.username >=  && startsWith(userEntity.username,)")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStartsWithTestCases")
+    void test_manage_startsWithMatchMode_returnExpectedPredicate(final QueryDslStringMatchMode matchMode, final String value,
+                                                                final String expectedPredicate) throws Exception {
+        // Test configuration
+        final QueryDslStringTypeManager typeManager = new QueryDslStringTypeManager(QueryDslStringsConfiguration.builder().matchMode(matchMode).build());
+        final QueryDslFilter filter = new QueryDslFilter("username", QueryDslOperators.STARTS_WITH_FUNCTION, value);
+
+        // Test execution
+        final String predicate = typeManager.manage(UserEntity.class, QueryDslPathBuilder.of(UserEntity.class), filter).toString();
+
+        // Response validation
+        Assertions.assertEquals(expectedPredicate, predicate, String.format("Wrong predicate for match mode '%s'.", matchMode));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.squdan.querydsl.filters.repository.type;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import io.github.squdan.querydsl.filters.repository.QueryDslPredicateFactory;
+import io.github.squdan.querydsl.filters.repository.entity.Roles;
+import io.github.squdan.querydsl.filters.repository.entity.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public class QueryDslTypeManagerRegistryITest {
+
+    // Constants
+    private static final QueryDslEnumTypeManager ENUM_TYPE_MANAGER = new QueryDslEnumTypeManager();
+    private static final QueryDslNumberTypeManager NUMBER_TYPE_MANAGER = new QueryDslNumberTypeManager();
+
+    @Test
+    void test_find_registeredTypes_returnClosestTypeManager() throws Exception {
+        // Test configuration
+        final QueryDslTypeManagerRegistry registry = new QueryDslTypeManagerRegistry()
+                .register(Enum.class, ENUM_TYPE_MANAGER)
+                .register(Number.class, NUMBER_TYPE_MANAGER);
+        final QueryDslStringTypeManager stringTypeManager = new QueryDslStringTypeManager();
+
+        // Test execution
+        final Optional<QueryDslTypeManager> roles = registry.find(Roles.class);
+        final Optional<QueryDslTypeManager> bigDecimal = registry.find(BigDecimal.class);
+        final Optional<QueryDslTypeManager> string = registry.find(String.class);
+        registry.register(BigDecimal.class, stringTypeManager);
+
+        // Response validation
+        Assertions.assertSame(ENUM_TYPE_MANAGER, roles.orElseThrow(), "Enums must be managed by superclass type manager.");
+        Assertions.assertSame(NUMBER_TYPE_MANAGER, bigDecimal.orElseThrow(), "Numbers must be managed by superclass type manager.");
+        Assertions.assertTrue(string.isEmpty(), "Not registered types shouldn't have type manager.");
+        Assertions.assertSame(stringTypeManager, registry.find(BigDecimal.class).orElseThrow(), "Exact type manager must be used first.");
+        Assertions.assertSame(registry.find(Roles.class), registry.find(Roles.class), "Found type managers must be kept.");
+    }
+
+    @Test
+    void test_getPredicate_registryAsCustomTypeManager_returnPredicate() throws Exception {
+        // Test configuration
+        final QueryDslPredicateFactory factory = new QueryDslPredicateFactory(new QueryDslTypeManagerRegistry().register(Roles.class, ENUM_TYPE_MANAGER));
+
+        // Test execution
+        final BooleanExpression predicate = factory.getPredicate(UserEntity.class, new QueryDslFilter("role", QueryDslOperators.IN_FUNCTION, "ADMIN|USER"));
+
+        // Response validation
+        Assertions.assertEquals("userEntity.role in [ADMIN, USER]", predicate.toString(), "Wrong predicate.");
+    }
+
+    @Test
+    void test_getPredicate_enumWithoutCustomTypeManager_returnPredicate() throws Exception {
+        // Test configuration
+        final QueryDslPredicateFactory factory = new QueryDslPredicateFactory();
+
+        // Test execution
+        final BooleanExpression predicate = factory.getPredicate(UserEntity.class, new QueryDslFilter("accounts.user.role", QueryDslOperators.NOT_EQUALS, "USER"));
+
+        // Response validation
+        Assertions.assertEquals("any(userEntity.accounts).user.role != USER", predicate.toString(), "Wrong predicate.");
+    }
+
+    @Test
+    void test_getPredicate_unknownEnumConstant_returnQueryDslFiltersException() throws Exception {
+        // Test configuration
+        final QueryDslPredicateFactory factory = new QueryDslPredicateFactory();
+        final QueryDslFilter filter = new QueryDslFilter("role", QueryDslOperators.EQUALS, "UNKNOWN");
+
+        // Test execution
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> factory.getPredicate(UserEntity.class, filter));
+        Assertions.assertSame(QueryDslEnumTypeManager.getConverter(Roles.class), QueryDslEnumTypeManager.getConverter(Roles.class), "Enum converters must be shared.");
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.squdan.querydsl.filters.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalQuery;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+public class DateTimeFormatsITest {
+
+    // Formatters with and without fixed shape
+    private static final List<DateTimeFormatter> DATE_TIME_FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"),
+            DateTimeFormatter.ofPattern("d/M/yyyy H:mm:ss"),
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss"),
+            DateTimeFormatter.ofPattern("dd.MM.uuuu HH:mm:ss.SSS xx"),
+            DateTimeFormatter.ofPattern("dd MMM yyyy HH:mm", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]"),
+            new DateTimeFormatterBuilder().parseCaseInsensitive().appendPattern("yyyy/MM/dd'T'HH:mm").toFormatter(),
+            new DateTimeFormatterBuilder().append(DateTimeFormatter.ISO_LOCAL_DATE).appendLiteral(' ').appendPattern("HH:mm:ss")
+                    .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true).toFormatter()
+    );
+
+    private static final List<DateTimeFormatter> DATE_FORMATTERS = List.of(
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("yyyyMMdd"),
+            DateTimeFormatter.ofPattern("dd-MMM-yy", Locale.ENGLISH),
+            DateTimeFormatter.ofPattern("uuuu.MM.dd")
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "14/06/2020 10:30", "4/6/2020 10:30:15", "14/06/2020 10:30:15", "20200614103015", "14.06.2020 10:30:15.123 +0200",
+            "14.06.-2020 10:30:15.123 -0530", "14.06.+12020 10:30:15.123 +0000", "14 Jun 2020 10:30", "14 jun 2020 10:30",
+            "2020-06-14 10:30", "2020-06-14 10:30:15", "2020/06/14t10:30", "2020-06-14 10:30:15.5", "2020-06-14 10:30:15.123456789",
+            "14/06/2020", "20200614", "14-Jun-20", "2020.06.14", "+12020.06.14", "-2020.06.14", "31/02/2020 10:30", "not a date"
+    })
+    void test_parse_formatsAdded_returnSameAsAllFormatters(final String value) throws Exception {
+        // Test configuration
+        DateTimeFormats formats = DateTimeFormats.DEFAULT;
+
+        for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
+            formats = formats.withDateTimeFormat(formatter);
+        }
+
+        for (DateTimeFormatter formatter : DATE_FORMATTERS) {
+            formats = formats.withDateFormat(formatter);
+        }
+
+        // Test execution
+        final LocalDateTime localDateTime = formats.toLocalDateTime(value);
+        final LocalDate localDate = formats.toLocalDate(value);
+
+        // Response validation
+        Assertions.assertEquals(parse(value, LocalDateTime::from, DATE_TIME_FORMATTERS), localDateTime, String.format("Wrong date time for '%s'.", value));
+        Assertions.assertEquals(parse(value, LocalDate::from, DATE_FORMATTERS), localDate, String.format("Wrong date for '%s'.", value));
+    }
+
+    @Test
+    void test_getFormatters_fixedShapeFormatters_returnFormattersOfValueShape() throws Exception {
+        // Test configuration
+        final DateTimeFormatterDispatch dispatch = new DateTimeFormatterDispatch(DATE_FORMATTERS);
+
+        // Test execution & Response validation
+        Assertions.assertEquals(List.of(DATE_FORMATTERS.get(0), DATE_FORMATTERS.get(2)), dispatch.getFormatters("14/06/2020"), "Wrong formatters for value.");
+        Assertions.assertEquals(List.of(DATE_FORMATTERS.get(2), DATE_FORMATTERS.get(3)), dispatch.getFormatters("-2020.06.14"), "Wrong formatters for value.");
+        Assertions.assertEquals(List.of(DATE_FORMATTERS.get(2)), dispatch.getFormatters("14 June 2020"), "Values without formatters of their shape must use formatters without shape.");
+    }
+
+    @Test
+    void test_withDateFormat_existingFormats_returnNewFormats() throws Exception {
+        // Test configuration
+        final DateTimeFormats formats = DateTimeFormats.DEFAULT;
+
+        // Test execution
+        final DateTimeFormats newFormats = formats.withDateFormat(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+        // Response validation
+        Assertions.assertEquals(LocalDate.of(2020, 6, 14), newFormats.toLocalDate("14/06/2020"), "New formats must support added format.");
+        Assertions.assertNull(formats.toLocalDate("14/06/2020"), "Existing formats can't be modified.");
+    }
+
+    @Test
+    void test_withDateTimeFormat_concurrentParsing_returnParsedValues() throws Exception {
+        // Test configuration
+        final AtomicReference<DateTimeFormats> formats = new AtomicReference<>(DateTimeFormats.DEFAULT);
+        final Callable<LocalDateTime> task = () -> {
+            formats.updateAndGet(current -> current.withDateTimeFormat(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+            return formats.get().toLocalDateTime("14/06/2020 10:30");
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // Test execution
+            final List<Future<LocalDateTime>> results = executor.invokeAll(IntStream.range(0, 64).mapToObj(i -> task).toList());
+
+            // Response validation
+            for (Future<LocalDateTime> result : results) {
+                Assertions.assertEquals(LocalDateTime.of(2020, 6, 14, 10, 30), result.get(), "Formats added concurrently must be supported.");
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static <D> D parse(final String value, final TemporalQuery<D> query, final List<DateTimeFormatter> formatters) {
+        D result = null;
+
+        for (DateTimeFormatter formatter : formatters) {
+            try {
+                result = Objects.isNull(result) ? formatter.parse(value, query) : result;
+            } catch (final DateTimeParseException e) {
+                // Next formatter
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.squdan.querydsl.filters.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public class DateTimeUtilsITest {
+
+    // Formatters parsing all values before shape detection
+    private static final List<DateTimeFormatter> REFERENCE_DATE_TIME_FORMATTERS = List.of(
+            DateTimeFormatter.ISO_DATE_TIME,
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME,
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS")
+    );
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // Dates
+            "2020-06-14", "2020-02-29", "2019-02-29", "2020-13-01", "2020-00-10", "2020-06-31", "2020-06-00", "0000-01-01",
+            "2020-6-14", "20200614", "2020/06/14", "2020-06-14Z", "2020-06-14+02:00",
+
+            // Date times
+            "2020-06-14T00:04", "2020-06-14T00:04:00", "2020-06-14T00:04:00Z", "2020-06-14t00:04:00z",
+            "2020-06-14T00:04:00.1", "2020-06-14T00:04:00.123", "2020-06-14T00:04:00.123456789", "2020-06-14T00:04:00.1234567890",
+            "2020-06-14T00:04:00.", "2020-06-14T00:04:00.123+02:00", "2020-06-14T00:04:00-05:30", "2020-06-14T00:04:00+02:00:30",
+            "2020-06-14T00:04:00+18:00", "2020-06-14T00:04:00+18:01", "2020-06-14T00:04:00+02", "2020-06-14T00:04:00+0200",
+            "2020-06-14T24:00:00", "2020-06-14T23:60:00", "2020-06-14T23:59:60", "2020-06-14T23:59:5", "2020-06-14T23",
+            "2020-06-14 00:04:00", "2020-06-14T00:04:00Z[UTC]", "2020-06-14T00:04:00+02:00[Europe/Madrid]",
+            "+2020-06-14T00:04:00", "12020-06-14T00:04:00", "2020-06-14T00:04:00Zx", "not a date"
+    })
+    void test_toLocalDateTime_anyValue_returnSameAsFormatters(final String value) throws Exception {
+        // Test execution
+        final LocalDateTime localDateTime = DateTimeUtils.toLocalDateTime(value);
+        final LocalDate localDate = DateTimeUtils.toLocalDate(value);
+
+        // Response validation
+        Assertions.assertEquals(parseLocalDateTime(value), localDateTime, String.format("Wrong date time for '%s'.", value));
+        Assertions.assertEquals(parseLocalDate(value), localDate, String.format("Wrong date for '%s'.", value));
+    }
+
+    private static Stream<Arguments> provideInstantTestCases() {
+        return Stream.of(
+                Arguments.of("2020-06-14T00:04:00Z", Instant.parse("2020-06-14T00:04:00Z")),
+                Arguments.of("2020-06-14T00:04:00.5", Instant.parse("2020-06-14T00:04:00.500Z")),
+                Arguments.of("2020-06-14", Instant.parse("2020-06-14T00:00:00Z")),
+                Arguments.of("2020-06-31", null),
+                Arguments.of("", null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideInstantTestCases")
+    void test_toInstantUtc_supportedValue_returnExpectedInstant(final String value, final Instant expectedInstant) throws Exception {
+        // Test execution
+        final Instant result = DateTimeUtils.toInstantUtc(value);
+
+        // Response validation
+        Assertions.assertEquals(expectedInstant, result, String.format("Wrong instant for '%s'.", value));
+    }
+
+    private static LocalDateTime parseLocalDateTime(final String value) {
+        LocalDateTime result = null;
+
+        for (DateTimeFormatter formatter : REFERENCE_DATE_TIME_FORMATTERS) {
+            try {
+                result = Objects.isNull(result) ? LocalDateTime.parse(value, formatter) : result;
+            } catch (final DateTimeParseException e) {
+                // Next formatter
+            }
+        }
+
+        return result;
+    }
+
+    private static LocalDate parseLocalDate(final String value) {
+        LocalDate result;
+
+        try {
+            result = LocalDate.parse(value, DateTimeFormatter.ISO_DATE);
+        } catch (final DateTimeParseException e) {
+            result = null;
+        }
+
+        return result;
+    }
+}
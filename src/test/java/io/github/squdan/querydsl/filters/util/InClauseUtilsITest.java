@@ -0,0 +1,71 @@
+package io.github.squdan.querydsl.filters.util;
+
+import io.github.squdan.querydsl.filters.QueryDslFilter;
+import io.github.squdan.querydsl.filters.QueryDslFiltersException;
+import io.github.squdan.querydsl.filters.QueryDslOperators;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class InClauseUtilsITest {
+
+    // Constants
+    private static final QueryDslFilter FILTER = new QueryDslFilter("test_key", QueryDslOperators.IN_FUNCTION, "test_value");
+
+    private static Stream<Arguments> provideChunksTestCases() {
+        return Stream.of(
+                // Values number, chunk size, expected chunk sizes
+                Arguments.of(1, 8, List.of(1)),
+                Arguments.of(3, 8, List.of(4)),
+                Arguments.of(8, 8, List.of(8)),
+                Arguments.of(9, 8, List.of(8, 1)),
+                Arguments.of(21, 8, List.of(8, 8, 8)),
+                Arguments.of(11, 10, List.of(10, 1)),
+                Arguments.of(7, 6, List.of(6, 1)),
+                Arguments.of(5, 6, List.of(6))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideChunksTestCases")
+    void test_getChunks_values_returnPaddedChunks(final int valuesNumber, final int chunkSize, final List<Integer> expectedChunkSizes) throws Exception {
+        // Test configuration
+        InClauseUtils.setChunkSize(chunkSize);
+        final List<Integer> values = IntStream.range(0, valuesNumber).boxed().toList();
+
+        // Test execution
+        final List<List<Integer>> chunks = InClauseUtils.getChunks(FILTER, values);
+
+        // Response validation
+        Assertions.assertEquals(expectedChunkSizes, chunks.stream().map(List::size).toList(), "Wrong chunk sizes.");
+        Assertions.assertEquals(values, chunks.stream().flatMap(List::stream).distinct().toList(), "Chunks must contain all values in order.");
+    }
+
+    @Test
+    void test_getChunks_repeatedValues_returnDistinctValues() throws Exception {
+        // Test execution
+        final List<List<String>> chunks = InClauseUtils.getChunks(FILTER, List.of("a", "b", "a", "c", "b"));
+
+        // Response validation
+        Assertions.assertEquals(List.of(List.of("a", "b", "c", "c")), chunks, "Wrong chunks.");
+    }
+
+    @Test
+    void test_getChunks_emptyValues_returnQueryDslFiltersException() throws Exception {
+        // Test execution
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> InClauseUtils.getChunks(FILTER, List.of()));
+        Assertions.assertThrows(QueryDslFiltersException.class, () -> InClauseUtils.setChunkSize(0));
+    }
+
+    @AfterEach
+    void resetChunkSize() {
+        InClauseUtils.setChunkSize(InClauseUtils.DEFAULT_CHUNK_SIZE);
+    }
+}
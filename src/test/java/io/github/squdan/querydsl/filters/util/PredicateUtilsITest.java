@@ -0,0 +1,73 @@
+package io.github.squdan.querydsl.filters.util;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PredicateUtilsITest {
+
+    // Constants
+    private static final NumberPath<Integer> PATH = Expressions.numberPath(Integer.class, "value");
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 8, 13})
+    void test_allOf_predicates_returnFlatConjunction(final int predicatesNumber) throws Exception {
+        // Test configuration
+        final List<BooleanExpression> predicates = IntStream.range(0, predicatesNumber).mapToObj(PATH::eq).toList();
+
+        // Test execution
+        final BooleanExpression result = PredicateUtils.allOf(predicates);
+
+        // Response validation
+        final String expectedQuery = IntStream.range(0, predicatesNumber)
+                .mapToObj(i -> "value = ?" + (i + 1))
+                .collect(Collectors.joining(" and "));
+        Assertions.assertEquals(expectedQuery, serialize(result), "Wrong query.");
+    }
+
+    @Test
+    void test_anyOf_predicates_returnFlatDisjunction() throws Exception {
+        // Test execution
+        final BooleanExpression result = PredicateUtils.anyOf(PATH.eq(1), PATH.eq(2), PATH.eq(3));
+
+        // Response validation
+        Assertions.assertEquals("value = ?1 or value = ?2 or value = ?3", serialize(result), "Wrong query.");
+    }
+
+    @Test
+    void test_allOf_mixedOperations_keepParentheses() throws Exception {
+        // Test execution
+        final BooleanExpression result = PredicateUtils.allOf(PredicateUtils.anyOf(PATH.eq(1), PATH.eq(2)), PATH.eq(3));
+
+        // Response validation
+        Assertions.assertEquals("(value = ?1 or value = ?2) and value = ?3", serialize(result), "Wrong query.");
+    }
+
+    @Test
+    void test_allOf_nullPredicates_returnNonNullPredicates() throws Exception {
+        // Test execution
+        final BooleanExpression single = PredicateUtils.allOf(null, PATH.eq(1), null);
+        final BooleanExpression empty = PredicateUtils.allOf(Arrays.asList(null, null));
+
+        // Response validation
+        Assertions.assertEquals(PATH.eq(1), single, "Single predicate must be returned as is.");
+        Assertions.assertNull(empty, "No predicates must return null.");
+    }
+
+    private static String serialize(final BooleanExpression predicate) {
+        final JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+        serializer.handle(predicate);
+        return serializer.toString();
+    }
+}